@@ -0,0 +1,65 @@
+package com.main;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.Color;
+import com.main.simulation.ScriptedPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared fixtures for the JMH suites. Everything runs on the headless backend, which gives the
+ * game code Gdx.app, Gdx.files and Gdx.graphics without opening a window or needing a GL context.
+ */
+final class BenchmarkSupport {
+    static final long SEED = 42;
+
+    private static final Color[] PLAYER_COLOURS = {Color.GREEN, Color.RED, Color.BLUE, Color.PINK};
+    private static HeadlessApplication application;
+
+    private BenchmarkSupport() {
+    }
+
+    static synchronized void startHeadless() {
+        if (application != null) {
+            return;
+        }
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = 1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        application.setLogLevel(Application.LOG_NONE);
+        GameState.getInstance();
+    }
+
+    static List<Task> loadCatalog() {
+        startHeadless();
+        List<Task> catalog = ResourceLoader.loadTask();
+        if (catalog == null) {
+            throw new IllegalStateException("Could not load assets/data/tasks.json, run the benchmarks from the project root");
+        }
+        return catalog;
+    }
+
+    static List<Player> createPlayers(int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(new Player("Bot " + (i + 1), PLAYER_COLOURS[i]));
+        }
+        return players;
+    }
+
+    // A board part way through a match, so selection and completion checks see realistic task lists
+    static GameEngine playedGame(int playerCount, int rounds) {
+        GameRandom random = new GameRandom(SEED);
+        Board board = new Board(new ArrayList<>(loadCatalog()), random.split());
+        GameEngine engine = new GameEngine(board, createPlayers(playerCount), random.split());
+        ScriptedPlayer bot = new ScriptedPlayer(engine, random.split());
+        while (engine.getGlobalTurn() < rounds && !engine.isGameWon() && !engine.isGameLost()) {
+            bot.playTurn();
+        }
+        return engine;
+    }
+}
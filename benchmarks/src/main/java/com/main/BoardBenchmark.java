@@ -0,0 +1,75 @@
+package com.main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Board generation from the task catalog, and the linking and indexing passes on their own. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    private static final int GRID_ROWS = 6;
+    private static final int GRID_COLS = 7;
+
+    private List<Task> catalog;
+    private Board board;
+    private GameRandom random;
+
+    @Setup
+    public void setup() {
+        catalog = BenchmarkSupport.loadCatalog();
+        random = new GameRandom(BenchmarkSupport.SEED);
+        board = new Board(new ArrayList<>(catalog), random.split());
+    }
+
+    @Benchmark
+    public Board generateBoard() {
+        return new Board(new ArrayList<>(catalog), random.split());
+    }
+
+    @Benchmark
+    public Board linkNodes() {
+        // Clearing 43 small lists is part of the measurement, but it is tiny next to the linking itself
+        for (Node node : board.getNodes()) {
+            node.links.clear();
+        }
+        board.linkNodes(GRID_ROWS, GRID_COLS);
+        board.buildAdjacency();
+        return board;
+    }
+
+    @Benchmark
+    public Board buildAdjacency() {
+        board.buildAdjacency();
+        return board;
+    }
+
+    @Benchmark
+    public int isLinkedAllPairs() {
+        List<Node> nodes = board.getNodes();
+        int linked = 0;
+        for (Node from : nodes) {
+            for (Node to : nodes) {
+                if (board.isLinked(from, to)) {
+                    linked++;
+                }
+            }
+        }
+        return linked;
+    }
+}
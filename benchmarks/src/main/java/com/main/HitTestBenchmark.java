@@ -0,0 +1,89 @@
+package com.main;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Hover hit-testing through NodeGrid against the linear scan it replaced, on isometric boards of growing size. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HitTestBenchmark {
+    private static final float SPACING = 100;
+    private static final int QUERIES = 256;
+
+    @Param({"42", "4096"})
+    public int nodeCount;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final NodeGrid grid = new NodeGrid(SPACING / 2);
+    private final Array<Node> hits = new Array<>();
+    private final Rectangle viewport = new Rectangle();
+    private float[] queryX;
+    private float[] queryY;
+    private int next;
+
+    @Setup
+    public void setup() {
+        int cols = (int) Math.ceil(Math.sqrt(nodeCount));
+        for (int i = 0; i < nodeCount; i++) {
+            int row = i / cols, col = i % cols;
+            Node node = new Node((col - row) * SPACING * 0.5f, (col + row) * SPACING * 0.25f, "Node " + i, 20);
+            nodes.add(node);
+            grid.insert(node);
+        }
+
+        // Half the queries land on a node, the rest on empty board
+        GameRandom random = new GameRandom(BenchmarkSupport.SEED);
+        queryX = new float[QUERIES];
+        queryY = new float[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            Node node = nodes.get(random.nextInt(nodes.size()));
+            float offset = i % 2 == 0 ? 10 : 40;
+            queryX[i] = node.x + offset;
+            queryY[i] = node.y + offset;
+        }
+        viewport.set(-400, 0, 800, 450);
+    }
+
+    @Benchmark
+    public int gridPoint() {
+        int i = next++ & (QUERIES - 1);
+        return grid.query(queryX[i], queryY[i], hits).size;
+    }
+
+    @Benchmark
+    public int linearPoint() {
+        int i = next++ & (QUERIES - 1);
+        float x = queryX[i], y = queryY[i];
+        int found = 0;
+        for (Node node : nodes) {
+            if (x >= node.x && x <= node.x + node.size && y >= node.y && y <= node.y + node.size) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int gridViewport() {
+        return grid.query(viewport, hits).size;
+    }
+}
@@ -0,0 +1,48 @@
+package com.main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Generation time for square boards well past the catalog size, which should grow linearly with the node count. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LargeBoardBenchmark {
+    @Param({"10", "100", "200"})
+    public int side;
+
+    @Param({"1.0", "0.5"})
+    public float taskDensity;
+
+    private List<Task> catalog;
+    private BoardLayout layout;
+    private GameRandom random;
+
+    @Setup
+    public void setup() {
+        catalog = BenchmarkSupport.loadCatalog();
+        layout = new BoardLayout(side, side, taskDensity, 0.05f, 100);
+        random = new GameRandom(BenchmarkSupport.SEED);
+    }
+
+    @Benchmark
+    public Board generate() {
+        return new Board(new ArrayList<>(catalog), random.split(), layout);
+    }
+}
@@ -0,0 +1,47 @@
+package com.main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Node.updateColour, which runs on every occupy/deOccupy and for the whole board when colour blind mode changes. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NodeColourBenchmark {
+    private List<Node> nodes;
+
+    @Setup
+    public void setup() {
+        nodes = new Board(new ArrayList<>(BenchmarkSupport.loadCatalog()), new GameRandom(BenchmarkSupport.SEED)).getNodes();
+    }
+
+    @Benchmark
+    public Node singleNode() {
+        Node node = nodes.get(1);
+        node.updateColour();
+        return node;
+    }
+
+    @Benchmark
+    public List<Node> wholeBoard() {
+        for (Node node : nodes) {
+            node.updateColour();
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,48 @@
+package com.main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** One frame of ParticleField.update for rain fields of increasing size. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParticleBenchmark {
+    private static final float FRAME = 1f / 60f;
+
+    @Param({"500", "10000", "50000"})
+    public int drops;
+
+    private ParticleField field;
+    private ParticleField.Respawner respawner;
+
+    @Setup
+    public void setup() {
+        GameRandom random = new GameRandom(BenchmarkSupport.SEED);
+        field = new ParticleField(drops);
+        for (int i = 0; i < drops; i++) {
+            field.add(random.nextInt(0, 1920), random.nextInt(0, 1080), random.nextInt(100, 300));
+        }
+        respawner = (particles, i) -> particles.set(i, particles.getX(i), 1080, 200);
+    }
+
+    @Benchmark
+    public ParticleField update() {
+        field.update(FRAME, 0, respawner);
+        return field;
+    }
+}
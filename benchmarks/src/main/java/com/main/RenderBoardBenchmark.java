@@ -0,0 +1,63 @@
+package com.main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The CPU side of Renderer.renderBoard. {@code frame} is what still runs every frame (the current
+ * player's selection check per node); {@code refresh} is the colour and selection work BoardMesh
+ * does when the board is flagged dirty. Mesh uploads and draw calls need a GL context and are left out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBoardBenchmark {
+    @Param({"2", "4"})
+    public int playerCount;
+
+    @Param({"0", "20"})
+    public int rounds;
+
+    private List<Node> nodes;
+    private List<Player> players;
+    private Player currentPlayer;
+
+    @Setup
+    public void setup() {
+        GameEngine engine = BenchmarkSupport.playedGame(playerCount, rounds);
+        nodes = engine.getNodes();
+        players = engine.getPlayers();
+        currentPlayer = engine.getCurrentPlayer();
+    }
+
+    @Benchmark
+    public void frame(Blackhole blackhole) {
+        for (Node node : nodes) {
+            blackhole.consume(node.isTaskSelectedByCurrentPlayer(currentPlayer));
+        }
+    }
+
+    @Benchmark
+    public void refresh(Blackhole blackhole) {
+        for (Node node : nodes) {
+            blackhole.consume(node.getRenderColour().toFloatBits());
+            blackhole.consume(node.isTaskSelectedByAnyPlayer(players));
+        }
+    }
+}
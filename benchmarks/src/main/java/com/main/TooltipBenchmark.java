@@ -0,0 +1,47 @@
+package com.main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** The per-entry screen filter Tooltip.render runs every frame, over the tooltips Main and the tutorial register. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TooltipBenchmark {
+    // {location, id} pairs as registered by Main.initializeGame and TutorialManager
+    private static final String[][] ENTRIES = {
+        {"A", "S"}, {"MS", "W"}, {"MS", "H"}, {"MS", "DR"}, {"MS", "DP"},
+        {"MS", "AT"}, {"MS", "GT"}, {"MS", "HT"}, {"MS", "MR"}, {"AMC", "EMC"},
+        {"TUT", "tut"}, {"TUT", "tut mp"}, {"TUT", "tut mp"}
+    };
+
+    @Param({"MS", "MC", "PTS"})
+    public String currentScreen;
+
+    @Param({"false", "true"})
+    public boolean tutorialMode;
+
+    @Benchmark
+    public int filter() {
+        int shown = 0;
+        for (String[] entry : ENTRIES) {
+            if (Tooltip.isShown(entry[0], entry[1], tutorialMode, currentScreen)) {
+                shown++;
+            }
+        }
+        return shown;
+    }
+}
@@ -0,0 +1,40 @@
+package com.main;
+
+import com.main.weatherSystem.WeatherManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** WeatherManager.getWeatherForTurn for each season. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WeatherBenchmark {
+    @Param({"Spring", "Summer", "Autumn", "Winter"})
+    public String season;
+
+    private WeatherManager weatherManager;
+
+    @Setup
+    public void setup() {
+        weatherManager = new WeatherManager(new GameRandom(BenchmarkSupport.SEED));
+    }
+
+    @Benchmark
+    public String getWeatherForTurn() {
+        return weatherManager.getWeatherForTurn(season);
+    }
+}
@@ -0,0 +1,152 @@
+package com.main;
+
+import com.badlogic.gdx.Gdx;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Counts the bytes the render thread allocates in each phase of a frame, and the garbage
+ * collections that finished during it, so allocation regressions show up in the debug window
+ * instead of as GC stutter much later. Allocation counts come from the HotSpot ThreadMXBean; on a
+ * JVM without it only the GC counts are kept.
+ */
+public class AllocationTracker {
+    private static final FrameProfiler.Phase[] PHASES = FrameProfiler.Phase.values();
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final long threadId;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private long frameStart;
+    private final long[] phaseStart = new long[PHASES.length];
+    private final long[] phaseBytes = new long[PHASES.length];
+    private long frameBytes;
+
+    private long gcCountAtStart;
+    private long gcMillisAtStart;
+    private long frameGcCount;
+    private long frameGcMillis;
+
+    // Totals since the last reset, for the averages
+    private int frames;
+    private long totalBytes;
+    private final long[] totalPhaseBytes = new long[PHASES.length];
+    private long totalGcCount;
+    private long totalGcMillis;
+
+    /** Must be created on the thread whose allocations are to be counted (the render thread). */
+    public AllocationTracker() {
+        com.sun.management.ThreadMXBean supported = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            supported = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            if (supported.isThreadAllocatedMemorySupported()) {
+                supported.setThreadAllocatedMemoryEnabled(true);
+            } else {
+                supported = null;
+            }
+        }
+        if (supported == null) {
+            Gdx.app.log("AllocationTracker", "Per-thread allocation counts are not available on this JVM");
+        }
+        threads = supported;
+        threadId = Thread.currentThread().getId();
+    }
+
+    public boolean isSupported() {
+        return threads != null;
+    }
+
+    public void reset() {
+        frames = 0;
+        totalBytes = 0;
+        Arrays.fill(totalPhaseBytes, 0);
+        totalGcCount = 0;
+        totalGcMillis = 0;
+    }
+
+    public void beginFrame() {
+        Arrays.fill(phaseBytes, 0);
+        gcCountAtStart = gcCount();
+        gcMillisAtStart = gcMillis();
+        frameStart = allocatedBytes();
+    }
+
+    public void begin(FrameProfiler.Phase phase) {
+        phaseStart[phase.ordinal()] = allocatedBytes();
+    }
+
+    public void end(FrameProfiler.Phase phase) {
+        phaseBytes[phase.ordinal()] += allocatedBytes() - phaseStart[phase.ordinal()];
+    }
+
+    public void endFrame() {
+        frameBytes = allocatedBytes() - frameStart;
+        frameGcCount = gcCount() - gcCountAtStart;
+        frameGcMillis = gcMillis() - gcMillisAtStart;
+
+        frames++;
+        totalBytes += frameBytes;
+        for (int i = 0; i < PHASES.length; i++) {
+            totalPhaseBytes[i] += phaseBytes[i];
+        }
+        totalGcCount += frameGcCount;
+        totalGcMillis += frameGcMillis;
+    }
+
+    private long allocatedBytes() {
+        return threads != null ? threads.getThreadAllocatedBytes(threadId) : 0;
+    }
+
+    private long gcCount() {
+        long count = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            count += Math.max(collectors.get(i).getCollectionCount(), 0); // -1 when a collector does not report it
+        }
+        return count;
+    }
+
+    private long gcMillis() {
+        long millis = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            millis += Math.max(collectors.get(i).getCollectionTime(), 0);
+        }
+        return millis;
+    }
+
+    /** Bytes allocated during the last frame. */
+    public long getFrameBytes() {
+        return frameBytes;
+    }
+
+    public long getPhaseBytes(FrameProfiler.Phase phase) {
+        return phaseBytes[phase.ordinal()];
+    }
+
+    public long getAverageFrameBytes() {
+        return frames == 0 ? 0 : totalBytes / frames;
+    }
+
+    public long getAveragePhaseBytes(FrameProfiler.Phase phase) {
+        return frames == 0 ? 0 : totalPhaseBytes[phase.ordinal()] / frames;
+    }
+
+    /** Collections (of any collector) that finished during the last frame. */
+    public long getFrameGcCount() {
+        return frameGcCount;
+    }
+
+    public long getFrameGcMillis() {
+        return frameGcMillis;
+    }
+
+    public long getTotalGcCount() {
+        return totalGcCount;
+    }
+
+    public long getTotalGcMillis() {
+        return totalGcMillis;
+    }
+}
@@ -0,0 +1,89 @@
+package com.main;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The files a match acquires, queued on the AssetRegistry so the loading screen can decode them off
+ * the render thread. Main loads its sounds from these tables, so what is queued is exactly what the
+ * match then holds; files that assets.txt (written by the generateAssetList Gradle task) does not
+ * list are skipped, so a missing clip cannot fail the loading screen.
+ */
+public class AssetManifest {
+    public static final String LIST_PATH = "assets.txt";
+
+    /** Sound effects as {SoundManager key, path}. */
+    public static final String[][] SOUNDS = {
+        {"moving", "audio/moving.mp3"},
+        {"click", "audio/click.mp3"},
+        {"notification", "audio/notification.mp3"},
+        {"taskFinished", "audio/taskFinished1.mp3"},
+        {"startingTaskSound", "audio/startingTaskSound.mp3"},
+    };
+
+    /** Weather ambience, streamed as Music, as {SoundManager key, path}. */
+    public static final String[][] MUSIC = {
+        {"rainSound", "audio/rainSound.mp3"},
+        {"stormSound", "audio/stormSound.mp3"},
+        {"snowfallSound", "audio/snowfallSound.mp3"},
+        {"windSound", "audio/windSound.mp3"},
+    };
+
+    // UI images the board, weather, dice and tooltips acquire through UiAtlas; only queued on
+    // their own when there is no packed atlas to hold them
+    private static final List<String> IMAGES = Arrays.asList(
+        "ui/makersCenter.png", "ui/fixing.png", "ui/cloud.png", "ui/rain.png",
+        "ui/dice/dice_face_1.png", "ui/dice/dice_face_2.png", "ui/dice/dice_face_3.png",
+        "ui/dice/dice_face_4.png", "ui/dice/dice_face_5.png", "ui/dice/dice_face_6.png",
+        "ui/toolTips/keyboard_key_c.png", "ui/toolTips/keyboard_key_d.png", "ui/toolTips/keyboard_key_escape.png",
+        "ui/toolTips/keyboard_key_f.png", "ui/toolTips/keyboard_key_g.png", "ui/toolTips/keyboard_key_h.png",
+        "ui/toolTips/keyboard_key_p.png", "ui/toolTips/keyboard_key_s.png", "ui/toolTips/keyboard_key_w.png");
+
+    /** Queues every match asset that assets.txt lists and returns how many were queued. */
+    public static int queueMatchAssets() {
+        FileHandle list = Gdx.files.internal(LIST_PATH);
+        if (!list.exists()) {
+            Gdx.app.log("AssetManifest", LIST_PATH + " not found, assets will load on first use");
+            return 0;
+        }
+        Set<String> present = new HashSet<>();
+        for (String line : list.readString("UTF-8").split("\n")) {
+            present.add(line.trim());
+        }
+
+        AssetRegistry registry = AssetRegistry.getInstance();
+        int queued = 0;
+        for (String[] sound : SOUNDS) {
+            queued += queueIfPresent(registry, present, sound[1], Sound.class);
+        }
+        for (String[] music : MUSIC) {
+            queued += queueIfPresent(registry, present, music[1], Music.class);
+        }
+        if (UiAtlas.getInstance().isAtlasPacked()) {
+            registry.queue(UiAtlas.ATLAS_PATH, TextureAtlas.class);
+            queued++;
+        } else {
+            for (String image : IMAGES) {
+                queued += queueIfPresent(registry, present, image, Texture.class);
+            }
+        }
+        return queued;
+    }
+
+    private static int queueIfPresent(AssetRegistry registry, Set<String> present, String path, Class<?> type) {
+        if (!present.contains(path)) {
+            return 0;
+        }
+        registry.queue(path, type);
+        return 1;
+    }
+}
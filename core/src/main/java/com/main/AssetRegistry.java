@@ -0,0 +1,89 @@
+package com.main;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Shared, reference-counted access to file assets, built on one AssetManager. Every acquire of a
+ * path must be matched by a release; all users of a path get the same instance, and it is unloaded
+ * (freeing its GPU memory) when the last user releases it.
+ */
+public class AssetRegistry implements Disposable {
+    private static AssetRegistry instance;
+
+    private final AssetManager manager = new AssetManager();
+    private final ObjectIntMap<String> references = new ObjectIntMap<>();
+
+    private AssetRegistry() {}
+
+    public static AssetRegistry getInstance() {
+        if (instance == null) {
+            synchronized (AssetRegistry.class) {
+                if (instance == null) {
+                    instance = new AssetRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /** Returns the asset at the given internal path, loading it now if no one holds it yet. */
+    public <T> T acquire(String path, Class<T> type) {
+        if (!manager.isLoaded(path, type)) {
+            if (!manager.contains(path)) {
+                manager.load(path, type);
+            }
+            manager.finishLoadingAsset(path); // also finishes an asset that was queued in the background
+        }
+        references.getAndIncrement(path, 0, 1);
+        return manager.get(path, type);
+    }
+
+    /**
+     * Queues an asset to load in the background through {@link #update}. Queuing holds no
+     * reference; whoever uses the asset still acquires it, which is then instant.
+     */
+    public void queue(String path, Class<?> type) {
+        if (!manager.contains(path)) {
+            manager.load(path, type);
+        }
+    }
+
+    /** Loads queued assets for up to the given time; returns true once the queue is empty. */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /** Drops one reference to the path, unloading the asset once nothing holds it. */
+    public void release(String path) {
+        int count = references.get(path, 0);
+        if (count <= 0) {
+            throw new IllegalArgumentException(path + " is not held by anyone.");
+        }
+        if (count == 1) {
+            references.remove(path, 0);
+            manager.unload(path);
+        } else {
+            references.put(path, count - 1);
+        }
+    }
+
+    public int getReferenceCount(String path) {
+        return references.get(path, 0);
+    }
+
+    public AssetManager getManager() {
+        return manager;
+    }
+
+    @Override
+    public void dispose() {
+        references.clear();
+        manager.clear();
+    }
+}
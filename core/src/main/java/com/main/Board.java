@@ -1,7 +1,6 @@
 package com.main;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.MathUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,10 +9,34 @@ public class Board {
     private List<Node> nodes;
     List<Task> tasks;
     List<Task> chanceSquares;
+    private final GameRandom random;
+    private final BoardLayout layout;
+    private final NodeGrid spatialIndex;
 
-    public Board(List<Task> tasks) {
-        nodes = new ArrayList<>();
+    // Forward and reverse adjacency in compressed rows, indexed by Node.index. Links of node i are
+    // outLinks[outStart[i] .. outStart[i + 1]), and the nodes linking to i are inLinks[inStart[i] .. inStart[i + 1])
+    private Node[] indexedNodes = new Node[0];
+    private int[] outStart = new int[1];
+    private int[] outLinks = new int[0];
+    private int[] inStart = new int[1];
+    private int[] inLinks = new int[0];
+
+    // Line segments between main board nodes as x1, y1, x2, y2 node centres, rebuilt with the adjacency
+    private float[] renderEdges = new float[0];
+
+    // Set when a node's drawn colour or size may have changed (selection, completion, colour blind mode)
+    private boolean appearanceDirty = true;
+
+    public Board(List<Task> tasks, GameRandom random) {
+        this(tasks, random, BoardLayout.DEFAULT);
+    }
+
+    public Board(List<Task> tasks, GameRandom random, BoardLayout layout) {
+        nodes = new ArrayList<>(layout.getGridNodeCount() + 1);
         chanceSquares = new ArrayList<>();
+        this.random = random;
+        this.layout = layout;
+        this.spatialIndex = new NodeGrid(layout.spacing / 2); // a node touches at most 4 cells
 
         generateBoard(tasks); // Pass the list of tasks to generateBoard
     }
@@ -22,14 +45,29 @@ public class Board {
         return nodes;
     }
 
-    public void generateBoard(List<Task> allTasks) {
-        // Separate the normal tasks and the chance squares
-        tasks = new ArrayList<>(allTasks.subList(0, 40));
-        chanceSquares = new ArrayList<>(allTasks.subList(41, 45));
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    public NodeGrid getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    public void markAppearanceDirty() {
+        appearanceDirty = true;
+    }
 
-        int gridRows = 6; // 6 rows
-        int gridCols = 7; // 7 columns : 42 nodes
-        float spacing = 100;
+    /** Returns whether the board was flagged since the last call, and clears the flag. */
+    public boolean consumeAppearanceDirty() {
+        boolean dirty = appearanceDirty;
+        appearanceDirty = false;
+        return dirty;
+    }
+
+    public void generateBoard(List<Task> allTasks) {
+        int gridRows = layout.rows;
+        int gridCols = layout.cols;
+        float spacing = layout.spacing;
 
         // Calculate the starting position for the main board
         float startX = Gdx.graphics.getWidth() / 2f;
@@ -44,46 +82,134 @@ public class Board {
         startingNode.updateColour();
         nodes.add(startingNode); // Add the starting node to the list
 
-        // Shuffle the chance squares to ensure random distribution
-        java.util.Collections.shuffle(chanceSquares);
-        // Add two random chance squares to the tasks list
-        Task chance1 = chanceSquares.remove(0);
-        Task chance2 = chanceSquares.remove(0);
-        tasks.add(chance1);
-        tasks.add(chance2);
-        // Shuffle all the tasks and two chance squares
-        java.util.Collections.shuffle(tasks);
-
-        // Generate the 42 nodes in an isometric grid format
+        // Generate the grid nodes in an isometric format
         for (int row = 0; row < gridRows; row++) {
             for (int col = 0; col < gridCols; col++) {
                 float isoX = startX + (col - row) * spacing * 0.5f;   // Isometric x
                 float isoY = startY + (col + row) * spacing * 0.25f;  // Isometric y
                 Node node = new Node(isoX, isoY, "Node " + (row * gridCols + col + 1), 20);
-
-                // Assign a task to the node
-                if (!tasks.isEmpty()) {
-                    Task task = tasks.remove(0);
-                    node.setTask(task);
-                }
-
                 nodes.add(node);
             }
         }
 
+        placeTasks(allTasks);
         linkNodes(gridRows, gridCols);
+        buildAdjacency();
+        if (expandSteps()) {
+            buildAdjacency(); // index the new sub-nodes too
+        }
+
+        spatialIndex.clear();
+        for (Node node : indexedNodes) {
+            spatialIndex.insert(node);
+        }
         Gdx.app.log("Board", "Board generated");
         Gdx.app.log("Board", nodes.size() + " nodes generated");
     }
 
-    private void linkNodes(int gridRows, int gridCols) {
+    /**
+     * The single task placement stage: deals the layout's share of tasks and chance squares, pads
+     * with empty squares, shuffles once and hands the squares out to the grid nodes in order.
+     */
+    private void placeTasks(List<Task> allTasks) {
+        // Separate the normal tasks and the chance squares
+        tasks = new ArrayList<>();
+        chanceSquares = new ArrayList<>();
+        for (Task task : allTasks) {
+            if (task.isChanceSquare()) {
+                chanceSquares.add(task);
+            } else {
+                tasks.add(task);
+            }
+        }
+
+        // Lay out which grid squares get a task: the tasks and chance squares first, then empty squares, shuffled together
+        int chanceCount = layout.getChanceSquareCount();
+        int taskCount = layout.getTaskedNodeCount() - chanceCount;
+        List<Task> squares = new ArrayList<>(layout.getGridNodeCount());
+        drawTasks(tasks, taskCount, squares);
+        drawTasks(chanceSquares, chanceCount, squares);
+        while (squares.size() < layout.getGridNodeCount()) {
+            squares.add(null);
+        }
+        random.shuffle(squares);
+
+        for (int i = 0; i < squares.size(); i++) {
+            if (squares.get(i) != null) {
+                nodes.get(i + 1).setTask(squares.get(i)); // +1 to skip the starting node
+            }
+        }
+    }
+
+    // Shuffles the pool and deals count tasks from it. Boards bigger than the catalog reuse its
+    // tasks as copies, so every node still has its own progress and owner.
+    private void drawTasks(List<Task> pool, int count, List<Task> out) {
+        if (count == 0) {
+            return;
+        }
+        if (pool.isEmpty()) {
+            throw new IllegalArgumentException("The task catalog has nothing to fill " + count + " squares with.");
+        }
+        random.shuffle(pool);
+        for (int i = 0; i < count; i++) {
+            Task task = pool.get(i % pool.size());
+            out.add(i < pool.size() ? task : task.copy());
+        }
+    }
+
+    /**
+     * Lays the steps of each task out as sub-nodes on the line towards the node's first link (or
+     * the first node linking to it), chained main node -> step 1 -> ... -> step k -> connected node.
+     * The direct link between the two main nodes stays, so players can still skip the steps.
+     * Returns whether any sub-nodes were added.
+     */
+    private boolean expandSteps() {
+        boolean expanded = false;
+        for (Node currentNode : nodes) {
+            Task task = currentNode.getTask();
+            if (task == null || task.getSteps() == null || task.getSteps().isEmpty()) {
+                continue;
+            }
+
+            Node connectedNode;
+            if (!currentNode.links.isEmpty()) {
+                connectedNode = currentNode.links.get(0); // Assume first link as the main connection
+            } else if (getInDegree(currentNode.index) > 0) {
+                connectedNode = getNode(getInLink(currentNode.index, 0));
+            } else {
+                continue;
+            }
+
+            List<Task> subtasks = task.getSteps();
+            currentNode.subNodes = new ArrayList<>(subtasks.size());
+            float dx = (connectedNode.x - currentNode.x) / (subtasks.size() + 1); // x increment
+            float dy = (connectedNode.y - currentNode.y) / (subtasks.size() + 1); // y increment
+
+            Node previous = currentNode;
+            for (int i = 0; i < subtasks.size(); i++) {
+                float subX = currentNode.x + dx * (i + 1); // Increment position along the line
+                float subY = currentNode.y + dy * (i + 1);
+                Node subNode = new Node(subX, subY, currentNode.id + "-sub" + i, currentNode.size / 2);
+                subNode.setTask(subtasks.get(i)); // Assign subtask to sub-node
+                currentNode.subNodes.add(subNode);
+
+                previous.addLink(subNode);
+                previous = subNode;
+            }
+            previous.addLink(connectedNode);
+            expanded = true;
+        }
+        return expanded;
+    }
+
+    void linkNodes(int gridRows, int gridCols) {
         // Step 1: Randomly link nodes (skip the starting node)
         for (int row = 0; row < gridRows; row++) {
             for (int col = 0; col < gridCols; col++) {
                 int currentIndex = row * gridCols + col + 1; // +1 to skip the starting node
                 Node currentNode = nodes.get(currentIndex);
 
-                if (MathUtils.randomBoolean()) {
+                if (random.nextBoolean()) {
                     // Link to the node on the right if available
                     if (col < gridCols - 1) {
                         Node rightNode = nodes.get(currentIndex + 1);
@@ -128,4 +254,137 @@ public class Board {
             startingNode.addLink(nodes.get(1));
         }
     }
+
+    /**
+     * Rebuilds the adjacency index from the nodes' link lists. Must be called again whenever links
+     * are added after generation. Nodes reached only through links (sub-nodes) get indices after
+     * the main board nodes.
+     */
+    public void buildAdjacency() {
+        for (Node node : indexedNodes) {
+            node.index = -1;
+        }
+
+        List<Node> ordered = new ArrayList<>(nodes);
+        for (int i = 0; i < ordered.size(); i++) {
+            ordered.get(i).index = i;
+        }
+        int linkCount = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            for (Node linked : ordered.get(i).links) {
+                if (linked.index < 0) {
+                    linked.index = ordered.size();
+                    ordered.add(linked);
+                }
+                linkCount++;
+            }
+        }
+
+        int count = ordered.size();
+        indexedNodes = ordered.toArray(new Node[0]);
+        outStart = new int[count + 1];
+        outLinks = new int[linkCount];
+        inStart = new int[count + 1];
+        inLinks = new int[linkCount];
+
+        for (int i = 0; i < count; i++) {
+            outStart[i + 1] = outStart[i] + indexedNodes[i].links.size();
+            for (Node linked : indexedNodes[i].links) {
+                inStart[linked.index + 1]++;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            inStart[i + 1] += inStart[i];
+        }
+
+        int[] inFill = new int[count];
+        for (int i = 0; i < count; i++) {
+            int out = outStart[i];
+            for (Node linked : indexedNodes[i].links) {
+                outLinks[out++] = linked.index;
+                inLinks[inStart[linked.index] + inFill[linked.index]++] = i;
+            }
+        }
+
+        buildRenderEdges();
+    }
+
+    // Only links between main board nodes are drawn; step chains lie on top of the link they follow
+    private void buildRenderEdges() {
+        int mainCount = nodes.size();
+        int edgeCount = 0;
+        for (int i = 0; i < mainCount; i++) {
+            for (int j = outStart[i]; j < outStart[i + 1]; j++) {
+                if (outLinks[j] < mainCount) {
+                    edgeCount++;
+                }
+            }
+        }
+
+        renderEdges = new float[edgeCount * 4];
+        int e = 0;
+        for (int i = 0; i < mainCount; i++) {
+            Node node = indexedNodes[i];
+            for (int j = outStart[i]; j < outStart[i + 1]; j++) {
+                if (outLinks[j] >= mainCount) {
+                    continue;
+                }
+                Node linkedNode = indexedNodes[outLinks[j]];
+                renderEdges[e++] = node.x + node.size / 2;
+                renderEdges[e++] = node.y + node.size / 2;
+                renderEdges[e++] = linkedNode.x + linkedNode.size / 2;
+                renderEdges[e++] = linkedNode.y + linkedNode.size / 2;
+            }
+        }
+    }
+
+    /** Link segments to draw, four floats (x1, y1, x2, y2) per edge. Do not modify. */
+    public float[] getRenderEdges() {
+        return renderEdges;
+    }
+
+    /** Number of indexed nodes, including sub-nodes. */
+    public int getNodeCount() {
+        return indexedNodes.length;
+    }
+
+    public Node getNode(int index) {
+        return indexedNodes[index];
+    }
+
+    public int getOutDegree(int index) {
+        return outStart[index + 1] - outStart[index];
+    }
+
+    /** Index of the i-th node that the given node links to. */
+    public int getOutLink(int index, int i) {
+        return outLinks[outStart[index] + i];
+    }
+
+    public int getInDegree(int index) {
+        return inStart[index + 1] - inStart[index];
+    }
+
+    /** Index of the i-th node linking to the given node, in board order. */
+    public int getInLink(int index, int i) {
+        return inLinks[inStart[index] + i];
+    }
+
+    // Node degree is bounded by the grid (plus a task's steps), so scanning a row is constant time
+    public boolean hasLink(int from, int to) {
+        for (int i = outStart[from]; i < outStart[from + 1]; i++) {
+            if (outLinks[i] == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether the nodes are linked in either direction; players can walk a link both ways. */
+    public boolean isLinked(Node a, Node b) {
+        if (a.index < 0 || b.index < 0) {
+            return false;
+        }
+        return hasLink(a.index, b.index) || hasLink(b.index, a.index);
+    }
 }
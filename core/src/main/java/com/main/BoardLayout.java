@@ -0,0 +1,46 @@
+package com.main;
+
+/**
+ * Shape and task mix of a generated board. The grid is rows × cols nodes plus the Makers Centre;
+ * taskDensity is the share of grid nodes given a task or chance square, and chanceRatio is the
+ * share of those that are chance squares.
+ */
+public class BoardLayout {
+    /** The standard 6 × 7 board: every square has a task, two of them are chance squares. */
+    public static final BoardLayout DEFAULT = new BoardLayout(6, 7, 1f, 2f / 42f, 100);
+
+    public final int rows;
+    public final int cols;
+    public final float taskDensity;
+    public final float chanceRatio;
+    public final float spacing;
+
+    public BoardLayout(int rows, int cols, float taskDensity, float chanceRatio, float spacing) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("A board needs at least one row and one column.");
+        }
+        if (taskDensity < 0 || taskDensity > 1 || chanceRatio < 0 || chanceRatio > 1) {
+            throw new IllegalArgumentException("Task density and chance ratio must be between 0 and 1.");
+        }
+        if (spacing <= 0) {
+            throw new IllegalArgumentException("Node spacing must be positive.");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.taskDensity = taskDensity;
+        this.chanceRatio = chanceRatio;
+        this.spacing = spacing;
+    }
+
+    public int getGridNodeCount() {
+        return rows * cols;
+    }
+
+    public int getTaskedNodeCount() {
+        return Math.round(getGridNodeCount() * taskDensity);
+    }
+
+    public int getChanceSquareCount() {
+        return Math.round(getTaskedNodeCount() * chanceRatio);
+    }
+}
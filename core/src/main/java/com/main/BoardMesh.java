@@ -0,0 +1,153 @@
+package com.main;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.List;
+
+/**
+ * The board's links and node diamonds baked into two static meshes, so drawing them costs two
+ * draw calls however large the board is. Links never change after generation; node vertices are
+ * only rewritten for nodes whose colour or scale changed, when the board is flagged dirty.
+ */
+public class BoardMesh implements Disposable {
+    private static final int VERTEX_SIZE = 3; // x, y, packed colour
+    private static final int VERTICES_PER_NODE = 6; // two triangles per diamond
+    private static final int FLOATS_PER_NODE = VERTICES_PER_NODE * VERTEX_SIZE;
+    private static final float SELECTED_SCALE = 1.5f; // Scale up by 1.5x if selected
+
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "varying vec4 v_color;\n"
+            + "void main() {\n"
+            + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying vec4 v_color;\n"
+            + "void main() {\n"
+            + "    gl_FragColor = v_color;\n"
+            + "}\n";
+
+    private final Board board;
+    private final ShaderProgram shader;
+    private final Mesh edgeMesh;
+    private final Mesh nodeMesh;
+    private final int edgeVertexCount;
+    private final float[] nodeVertices;
+    private final float[] uploadedColours;
+    private final float[] uploadedScales;
+
+    public BoardMesh(Board board) {
+        this.board = board;
+
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new IllegalStateException("Board shader failed to compile: " + shader.getLog());
+        }
+
+        VertexAttributes attributes = new VertexAttributes(
+            new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            VertexAttribute.ColorPacked());
+
+        // Links are fixed once the board is built, so they are uploaded once
+        float[] edges = board.getRenderEdges();
+        edgeVertexCount = edges.length / 2;
+        float[] edgeVertices = new float[edgeVertexCount * VERTEX_SIZE];
+        float red = Color.RED.toFloatBits();
+        for (int i = 0, v = 0; i < edges.length; i += 2) {
+            edgeVertices[v++] = edges[i];
+            edgeVertices[v++] = edges[i + 1];
+            edgeVertices[v++] = red;
+        }
+        edgeMesh = new Mesh(true, Math.max(1, edgeVertexCount), 0, attributes);
+        edgeMesh.setVertices(edgeVertices);
+
+        int nodeCount = board.getNodes().size();
+        nodeVertices = new float[nodeCount * FLOATS_PER_NODE];
+        uploadedColours = new float[nodeCount];
+        uploadedScales = new float[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            uploadedColours[i] = Float.NaN; // forces every node to be written by the first refresh
+        }
+        nodeMesh = new Mesh(false, Math.max(1, nodeCount * VERTICES_PER_NODE), 0, attributes);
+        nodeMesh.setVertices(nodeVertices);
+    }
+
+    /** Rewrites the vertices of nodes whose colour or selection changed and uploads just that range. */
+    public void refresh(List<Player> players) {
+        List<Node> nodes = board.getNodes();
+        int firstChanged = -1;
+        int lastChanged = -1;
+
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            float colour = node.getRenderColour().toFloatBits();
+            float scale = node.isTaskSelectedByAnyPlayer(players) ? SELECTED_SCALE : 1f;
+            if (Float.floatToRawIntBits(colour) == Float.floatToRawIntBits(uploadedColours[i]) && scale == uploadedScales[i]) {
+                continue;
+            }
+            uploadedColours[i] = colour;
+            uploadedScales[i] = scale;
+            writeDiamond(node, i * FLOATS_PER_NODE, colour, scale);
+
+            if (firstChanged < 0) {
+                firstChanged = i;
+            }
+            lastChanged = i;
+        }
+
+        if (firstChanged >= 0) {
+            int offset = firstChanged * FLOATS_PER_NODE;
+            nodeMesh.updateVertices(offset, nodeVertices, offset, (lastChanged - firstChanged + 1) * FLOATS_PER_NODE);
+        }
+    }
+
+    private void writeDiamond(Node node, int offset, float colour, float scale) {
+        float halfWidth = (node.size / 2) * scale;
+        float halfHeight = (node.size / 4) * scale;
+
+        float topX = node.x + 10, topY = node.y + 10 + halfHeight;
+        float rightX = node.x + 10 + halfWidth, rightY = node.y + 10;
+        float bottomX = node.x + 10, bottomY = node.y + 10 - halfHeight;
+        float leftX = node.x + 10 - halfWidth, leftY = node.y + 10;
+
+        float[] v = nodeVertices;
+        int i = offset;
+        v[i++] = topX; v[i++] = topY; v[i++] = colour;
+        v[i++] = rightX; v[i++] = rightY; v[i++] = colour;
+        v[i++] = bottomX; v[i++] = bottomY; v[i++] = colour;
+        v[i++] = bottomX; v[i++] = bottomY; v[i++] = colour;
+        v[i++] = leftX; v[i++] = leftY; v[i++] = colour;
+        v[i++] = topX; v[i++] = topY; v[i] = colour;
+    }
+
+    public void render(Matrix4 projection) {
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        if (edgeVertexCount > 0) {
+            edgeMesh.render(shader, GL20.GL_LINES, 0, edgeVertexCount);
+        }
+        if (uploadedScales.length > 0) {
+            nodeMesh.render(shader, GL20.GL_TRIANGLES, 0, uploadedScales.length * VERTICES_PER_NODE);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        edgeMesh.dispose();
+        nodeMesh.dispose();
+        shader.dispose();
+    }
+}
@@ -59,9 +59,7 @@ public class ChanceSquareScreen implements Screen {
         mainTable.add(taskNameLabel).width(550).padBottom(20).row();
 
         // Add the chance square description (white)
-        String description = chanceTask.getDescription()
-            .replace("{m}", chanceTask.getResourceAmountString("Money"))
-            .replace("{p}", chanceTask.getResourceAmountString("People"));
+        String description = chanceTask.getExpandedDescription();
         Label descriptionLabel = new Label(description, new Label.LabelStyle(font, Color.WHITE));
         descriptionLabel.setAlignment(Align.center);
         descriptionLabel.setWrap(true);
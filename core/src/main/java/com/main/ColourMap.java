@@ -1,15 +1,22 @@
 package com.main;
 
+import com.badlogic.gdx.graphics.Color;
+
 public class ColourMap {
 
     private final String colourName;
     private final String standardHex;
     private final String colourBlindHex;
+    // Parsed once so nodes can share them instead of parsing the hex on every colour update
+    private final Color standardColour;
+    private final Color colourBlindColour;
 
     public ColourMap(String colourName, String standardHex, String colourBlindHex) {
         this.colourName = colourName;
         this.standardHex = standardHex;
         this.colourBlindHex = colourBlindHex;
+        this.standardColour = Color.valueOf(standardHex);
+        this.colourBlindColour = Color.valueOf(colourBlindHex);
     }
 
     public String getColourName() {
@@ -24,5 +31,13 @@ public class ColourMap {
         return colourBlindHex;
     }
 
+    public Color getStandardColour() {
+        return standardColour;
+    }
+
+    public Color getColourBlindColour() {
+        return colourBlindColour;
+    }
+
 
 }
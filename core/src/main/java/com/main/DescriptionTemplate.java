@@ -0,0 +1,60 @@
+package com.main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A task description with its {m} (money) and {p} (people) placeholders located once when the
+ * task is loaded, so filling in the amounts is a single concatenation rather than a chain of
+ * String.replace scans over the whole text.
+ */
+public class DescriptionTemplate {
+    static final char MONEY = 'm';
+    static final char PEOPLE = 'p';
+
+    private final String[] literals; // always one more literal than placeholders
+    private final char[] placeholders;
+    private final int literalLength;
+
+    private DescriptionTemplate(String[] literals, char[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static DescriptionTemplate compile(String text) {
+        if (text == null) {
+            text = "";
+        }
+        List<String> literals = new ArrayList<>();
+        StringBuilder placeholders = new StringBuilder();
+        int start = 0;
+        for (int i = 0; i + 2 < text.length(); i++) {
+            char open = text.charAt(i);
+            char kind = text.charAt(i + 1);
+            if (open == '{' && (kind == MONEY || kind == PEOPLE) && text.charAt(i + 2) == '}') {
+                literals.add(text.substring(start, i));
+                placeholders.append(kind);
+                start = i + 3;
+                i += 2;
+            }
+        }
+        literals.add(text.substring(start));
+        return new DescriptionTemplate(literals.toArray(new String[0]), placeholders.toString().toCharArray());
+    }
+
+    public String expand(String money, String people) {
+        if (placeholders.length == 0) {
+            return literals[0];
+        }
+        StringBuilder text = new StringBuilder(literalLength + placeholders.length * Math.max(money.length(), people.length()));
+        for (int i = 0; i < placeholders.length; i++) {
+            text.append(literals[i]).append(placeholders[i] == MONEY ? money : people);
+        }
+        return text.append(literals[placeholders.length]).toString();
+    }
+}
@@ -7,8 +7,13 @@ import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
 import com.badlogic.gdx.graphics.g3d.utils.MeshPartBuilder;
 import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
 import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.VertexAttributes;
@@ -17,23 +22,43 @@ import com.badlogic.gdx.Gdx;
 
 import static com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute.AmbientLight;
 
+/**
+ * The 3D dice. It is drawn into a small off-screen framebuffer and shown as a 2D sprite; the cube
+ * is only re-rendered while it rolls or after its face changes, so a dice sitting on a face costs
+ * one textured quad per frame instead of a ModelBatch pass.
+ */
 public class Dice {
+    // Share of the screen height the sprite covers; the spinning cube never reaches further out
+    private static final float SPRITE_SCREEN_SHARE = 0.5f;
+
     private ModelInstance diceInstance;
     private Model diceModel;
-    private Texture[] faceTextures;
+    private TextureRegion[] faceTextures;
     private Environment environment;
     private boolean isRolling;
     private float rotationSpeedX, rotationSpeedY, rotationSpeedZ;
     private float rotationTimeLeft;
+    // Orientation after the last update and the one before it, so a roll can be drawn between steps
+    private final Quaternion rotation = new Quaternion();
+    private final Quaternion previousRotation = new Quaternion();
+    private final Quaternion stepRotation = new Quaternion();
+    private final Quaternion drawnRotation = new Quaternion();
+
+    private PerspectiveCamera spriteCamera;
+    private FrameBuffer frameBuffer;
+    private TextureRegion sprite;
+    private boolean spriteDirty = true;
     private int faceValue;
     private boolean visible = false;
     private boolean alreadyRolled = false;
+    private final GameRandom random;
 
     private DirectionalLight directionalLight;
     private ShadowMap shadowMap;
 
-    public Dice(Texture[] textures) {
+    public Dice(TextureRegion[] textures, GameRandom random) {
         this.faceTextures = textures;
+        this.random = random;
 
         ModelBuilder modelBuilder = new ModelBuilder();
         modelBuilder.begin();
@@ -139,14 +164,19 @@ public class Dice {
                 diceInstance.transform.rotate(Vector3.Y, 180);
                 break;
         }
+        diceInstance.transform.getRotation(rotation, true);
+        previousRotation.set(rotation);
+        spriteDirty = true;
     }
 
     public void update(float delta) {
         if (isRolling) {
             rotationTimeLeft -= delta;
-            diceInstance.transform.rotate(Vector3.X, rotationSpeedX * delta);
-            diceInstance.transform.rotate(Vector3.Y, rotationSpeedY * delta);
-            diceInstance.transform.rotate(Vector3.Z, rotationSpeedZ * delta);
+            previousRotation.set(rotation);
+            rotation.mul(stepRotation.set(Vector3.X, rotationSpeedX * delta));
+            rotation.mul(stepRotation.set(Vector3.Y, rotationSpeedY * delta));
+            rotation.mul(stepRotation.set(Vector3.Z, rotationSpeedZ * delta));
+            rotation.nor();
 
             if (rotationTimeLeft <= 0) {
                 isRolling = false;
@@ -168,9 +198,9 @@ public class Dice {
         if (!isRolling) {
             isRolling = true;
             rotationTimeLeft = 1.5f;
-            rotationSpeedX = MathUtils.random(200f, 400f);
-            rotationSpeedY = MathUtils.random(200f, 400f);
-            rotationSpeedZ = MathUtils.random(200f, 400f);
+            rotationSpeedX = random.nextFloat(200f, 400f);
+            rotationSpeedY = random.nextFloat(200f, 400f);
+            rotationSpeedZ = random.nextFloat(200f, 400f);
         }
     }
 
@@ -181,7 +211,7 @@ public class Dice {
     }
 
     private void setFinalFace() {
-        faceValue = MathUtils.random(1, 6);
+        faceValue = random.nextInt(1, 6);
         System.out.println("Rolled: " + faceValue);
         alignFaceUp(faceValue);
     }
@@ -195,8 +225,56 @@ public class Dice {
         alignFaceUp(faceValue);
     }
 
-    public void render(ModelBatch modelBatch) {
-        modelBatch.render(diceInstance, environment);
+    /**
+     * Sets up the sprite for a dice seen by the given full-screen camera, which looks at the dice
+     * from the centre of the screen. The sprite's camera shows the middle of that view at the same
+     * scale, so the sprite lines up exactly with where the cube would be drawn.
+     */
+    public void setView(PerspectiveCamera camera) {
+        int size = MathUtils.ceil(camera.viewportHeight * SPRITE_SCREEN_SHARE);
+        float halfAngle = (float) Math.atan(Math.tan(Math.toRadians(camera.fieldOfView / 2)) * SPRITE_SCREEN_SHARE);
+
+        spriteCamera = new PerspectiveCamera(2 * halfAngle * MathUtils.radiansToDegrees, size, size);
+        spriteCamera.position.set(camera.position);
+        spriteCamera.direction.set(camera.direction);
+        spriteCamera.up.set(camera.up);
+        spriteCamera.near = camera.near;
+        spriteCamera.far = camera.far;
+        spriteCamera.update();
+
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+        }
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, size, size, true);
+        sprite = new TextureRegion(frameBuffer.getColorBufferTexture());
+        sprite.flip(false, true); // framebuffer textures are stored bottom-up
+        spriteDirty = true;
+    }
+
+    /**
+     * Draws the dice centred in a screenWidth × screenHeight view of the batch. While rolling,
+     * alpha (0 to 1) places the cube between the last two updates.
+     */
+    public void render(ModelBatch modelBatch, Batch batch, float screenWidth, float screenHeight, float alpha) {
+        if (isRolling) {
+            diceInstance.transform.set(drawnRotation.set(previousRotation).slerp(rotation, alpha));
+            spriteDirty = true;
+        }
+        if (spriteDirty) {
+            frameBuffer.begin();
+            Gdx.gl.glClearColor(0, 0, 0, 0);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+            modelBatch.begin(spriteCamera);
+            modelBatch.render(diceInstance, environment);
+            modelBatch.end();
+            frameBuffer.end();
+            spriteDirty = isRolling; // a settled face is kept until it changes
+        }
+
+        float size = screenHeight * SPRITE_SCREEN_SHARE;
+        batch.begin();
+        batch.draw(sprite, (screenWidth - size) / 2, (screenHeight - size) / 2, size, size);
+        batch.end();
     }
 
     public int getFaceValue() {
@@ -204,9 +282,9 @@ public class Dice {
     }
 
     public void dispose() {
-        diceModel.dispose();
-        for (Texture texture : faceTextures) {
-            texture.dispose();
+        diceModel.dispose(); // the face regions belong to the UI atlas
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
         }
     }
 }
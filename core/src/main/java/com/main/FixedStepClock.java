@@ -0,0 +1,55 @@
+package com.main;
+
+/**
+ * Turns variable frame times into a whole number of fixed simulation steps, so game-time systems
+ * (movement, dice, weather, timers) advance the same way at 30, 60 or 240 FPS. Time left over after
+ * the last whole step is carried into the next frame and exposed as {@link #getAlpha()}, which the
+ * renderer uses to interpolate between the previous and current step.
+ */
+public class FixedStepClock {
+    private final float step;
+    private final int maxStepsPerFrame;
+    private float accumulator;
+
+    /**
+     * @param step             simulation step in seconds
+     * @param maxStepsPerFrame catch-up limit; after a longer stall the rest of the lost time is
+     *                         dropped rather than simulated, so one slow frame cannot snowball
+     */
+    public FixedStepClock(float step, int maxStepsPerFrame) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("The step must be longer than zero.");
+        }
+        if (maxStepsPerFrame < 1) {
+            throw new IllegalArgumentException("At least one step per frame must be allowed.");
+        }
+        this.step = step;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /** Adds a frame's elapsed time and returns how many steps to simulate for it. */
+    public int advance(float delta) {
+        accumulator += delta;
+        int steps = (int) (accumulator / step);
+        if (steps > maxStepsPerFrame) {
+            steps = maxStepsPerFrame;
+            accumulator = 0;
+        } else {
+            accumulator -= steps * step;
+        }
+        return steps;
+    }
+
+    /** How far (0 to 1) the frame is between the last simulated step and the next one. */
+    public float getAlpha() {
+        return accumulator / step;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    public void reset() {
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,280 @@
+package com.main;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Live frame statistics for the debug window: frame time percentiles over the last few seconds,
+ * the GL draw calls, texture binds and shader switches of the last frame, and how much CPU time
+ * each phase of Main.render took and allocated (see {@link AllocationTracker}). Everything is kept
+ * in fixed arrays, and nothing is measured (or wrapped in the GLProfiler) while the profiler is
+ * disabled or paused. Each profiling session, from enabling the profiler to disabling it or the
+ * app exiting, is written one row per frame to a single CSV under profiling/ in local storage;
+ * pausing (while another screen is shown) leaves the session and its CSV open.
+ */
+public class FrameProfiler {
+    /**
+     * The parts of a frame that are timed separately. This is not the order Main.render runs them
+     * in: some phases (the tutorial, the UI) are timed in several pieces across the frame.
+     */
+    public enum Phase {
+        INPUT("Input"),
+        SIMULATION("Simulation"),
+        STAGE("Stage"),
+        BOARD("Board"),
+        WEATHER("Weather"),
+        UI("UI"),
+        DICE("Dice"),
+        TOOLTIPS("Tooltips"),
+        TUTORIAL("Tutorial");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final int WINDOW = 240; // frames, about four seconds at 60 FPS
+    private static final Phase[] PHASES = Phase.values();
+    private static final String CSV_FOLDER = "profiling/";
+
+    private final GLProfiler glProfiler = new GLProfiler(Gdx.graphics);
+    private final AllocationTracker allocations = new AllocationTracker();
+    private Writer csv;
+    private int frameNumber;
+    private boolean enabled;
+    private boolean paused;
+
+    // Closes the CSV if the app exits while a session is still open
+    private final LifecycleListener exitListener = new LifecycleListener() {
+        @Override
+        public void pause() {
+        }
+
+        @Override
+        public void resume() {
+        }
+
+        @Override
+        public void dispose() {
+            closeCsv();
+        }
+    };
+
+    // Ring buffers of the last WINDOW frames, in milliseconds
+    private final float[] frameMillis = new float[WINDOW];
+    private final float[][] phaseMillis = new float[PHASES.length][WINDOW];
+    private final float[] sorted = new float[WINDOW];
+    private int next;
+    private int count;
+
+    private final long[] phaseStart = new long[PHASES.length];
+    private final long[] phaseNanos = new long[PHASES.length];
+
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Starts or stops a profiling session and its CSV; starting clears whatever was recorded before. */
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        if (enabled) {
+            next = 0;
+            count = 0;
+            allocations.reset();
+            openCsv();
+        } else {
+            closeCsv();
+        }
+        updateGlProfiler();
+    }
+
+    /** Stops or resumes sampling without ending the session, for while the match screen is hidden. */
+    public void setPaused(boolean paused) {
+        if (this.paused == paused) {
+            return;
+        }
+        this.paused = paused;
+        updateGlProfiler();
+    }
+
+    private boolean isSampling() {
+        return enabled && !paused;
+    }
+
+    private void updateGlProfiler() {
+        if (isSampling()) {
+            glProfiler.reset();
+            glProfiler.enable();
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    public void beginFrame() {
+        if (isSampling()) {
+            Arrays.fill(phaseNanos, 0);
+            allocations.beginFrame();
+        }
+    }
+
+    public void begin(Phase phase) {
+        if (isSampling()) {
+            allocations.begin(phase);
+            phaseStart[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    /** Adds the time since the matching {@link #begin}; a phase may be timed in several pieces. */
+    public void end(Phase phase) {
+        if (isSampling()) {
+            phaseNanos[phase.ordinal()] += System.nanoTime() - phaseStart[phase.ordinal()];
+            allocations.end(phase);
+        }
+    }
+
+    public void endFrame() {
+        if (!isSampling()) {
+            return;
+        }
+        allocations.endFrame();
+        // The raw delta, since Main clamps the one it is handed and would hide the worst spikes
+        float millis = Gdx.graphics.getDeltaTime() * 1000f;
+        frameMillis[next] = millis;
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseMillis[i][next] = phaseNanos[i] / 1_000_000f;
+        }
+        next = (next + 1) % WINDOW;
+        count = Math.min(count + 1, WINDOW);
+
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        shaderSwitches = glProfiler.getShaderSwitches();
+        glProfiler.reset();
+
+        // Written after the frame's counts were read, so the CSV's own garbage is not counted
+        writeCsvRow(millis);
+    }
+
+    private void openCsv() {
+        FileHandle file = Gdx.files.local(CSV_FOLDER + "frames-" + System.currentTimeMillis() + ".csv");
+        try {
+            file.parent().mkdirs();
+            csv = new BufferedWriter(file.writer(false, "UTF-8"));
+            csv.write("frame,frame_ms,alloc_bytes");
+            for (Phase phase : PHASES) {
+                csv.write("," + phase.name().toLowerCase(Locale.ROOT) + "_bytes");
+            }
+            csv.write(",gc_count,gc_ms\n");
+            frameNumber = 0;
+            Gdx.app.addLifecycleListener(exitListener);
+            Gdx.app.log("FrameProfiler", "Writing frame stats to " + file.path());
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("FrameProfiler", "Could not create " + file.path(), e);
+            csv = null;
+        }
+    }
+
+    private void writeCsvRow(float millis) {
+        if (csv == null) {
+            return;
+        }
+        try {
+            csv.write(Integer.toString(frameNumber++));
+            csv.write(',');
+            csv.write(Float.toString(millis));
+            csv.write(',');
+            csv.write(Long.toString(allocations.getFrameBytes()));
+            for (Phase phase : PHASES) {
+                csv.write(',');
+                csv.write(Long.toString(allocations.getPhaseBytes(phase)));
+            }
+            csv.write(',');
+            csv.write(Long.toString(allocations.getFrameGcCount()));
+            csv.write(',');
+            csv.write(Long.toString(allocations.getFrameGcMillis()));
+            csv.write('\n');
+        } catch (IOException e) {
+            Gdx.app.error("FrameProfiler", "Could not write frame stats, stopping the CSV", e);
+            closeCsv();
+        }
+    }
+
+    private void closeCsv() {
+        if (csv == null) {
+            return;
+        }
+        Gdx.app.removeLifecycleListener(exitListener);
+        try {
+            csv.close();
+        } catch (IOException e) {
+            Gdx.app.error("FrameProfiler", "Could not finish the frame stats CSV", e);
+        }
+        csv = null;
+    }
+
+    /** Frame time in milliseconds below which the given fraction (0 to 1) of recent frames fall. */
+    public float getFramePercentile(float fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        System.arraycopy(frameMillis, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int index = Math.min(count - 1, (int) Math.ceil(fraction * count) - 1);
+        return sorted[Math.max(index, 0)];
+    }
+
+    public float getPhaseAverage(Phase phase) {
+        float total = 0;
+        float[] samples = phaseMillis[phase.ordinal()];
+        for (int i = 0; i < count; i++) {
+            total += samples[i];
+        }
+        return count == 0 ? 0 : total / count;
+    }
+
+    public float getPhaseMax(Phase phase) {
+        float max = 0;
+        float[] samples = phaseMillis[phase.ordinal()];
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max;
+    }
+
+    public AllocationTracker getAllocations() {
+        return allocations;
+    }
+
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public int getTextureBindings() {
+        return textureBindings;
+    }
+
+    public int getShaderSwitches() {
+        return shaderSwitches;
+    }
+}
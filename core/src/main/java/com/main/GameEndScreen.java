@@ -89,7 +89,7 @@ public class GameEndScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 dispose();
-                Tooltip.getInstance().resetInstance();
+                Tooltip.resetInstance();
                 ((Game) Gdx.app.getApplicationListener()).setScreen(new MainMenuScreen());
             }
         });
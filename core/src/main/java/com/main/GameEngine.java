@@ -0,0 +1,381 @@
+package com.main;
+
+import com.main.weatherSystem.WeatherManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the turn rules of a match (dice to moves, movement, task selection and progress, seasons)
+ * without touching any rendering, input or screen code. Main drives it from the UI and the
+ * balancing harness drives it directly, so a whole game can be played with no window.
+ */
+public class GameEngine {
+    public static final String[] OBJECTIVES = {"Educational", "Financial", "Business", "Community"};
+    public static final int TASKS_PER_OBJECTIVE = 10;
+
+    private final Board board;
+    private final List<Node> nodes;
+    private final List<Player> players;
+    private final WeatherManager weatherManager;
+
+    private Node currentNode;
+    private int turn = 0;
+    private int currentMoves = 0;
+    private int maxMoves = 0;
+    private int globalTurn = 0; // used to progress season
+    private int years = 0;
+    private String currentSeason = "Spring";
+    private String currentWeather;
+
+    // makers
+    private boolean makersRefill = false;
+    private float makersZarRefillAmount = 75000;
+    private float makersPeopleRefillAmount = 50;
+
+    // will store the all the selected tasks for an objective
+    private final Map<String, List<Task>> selectedTasks = new HashMap<>();
+    private final Map<String, Boolean> objectiveCanStart = new HashMap<>();
+    private final Map<String, Player> objectiveOwners = new HashMap<>(); // Tracks which player owns which objective
+    private int completedObjectives = 0;
+
+    public GameEngine(Board board, List<Player> players, GameRandom random) {
+        this.board = board;
+        this.nodes = board.getNodes();
+        this.players = players;
+        this.weatherManager = new WeatherManager(random);
+
+        for (String objective : OBJECTIVES) {
+            selectedTasks.put(objective, new ArrayList<>());
+            objectiveCanStart.put(objective, false);
+        }
+
+        for (Player player : players) {
+            nodes.get(0).occupy(player);
+            player.setCurrentNode(nodes.get(0));
+        }
+        currentNode = nodes.get(0);
+    }
+
+    /** Applies a dice roll to the current turn; returns the weather modifier that was added. */
+    public int applyRoll(int faceValue) {
+        currentWeather = weatherManager.getWeatherForTurn(currentSeason);
+        int maxMovesModifier = weatherManager.getMaxMovesModifier(currentWeather);
+
+        // Ensure maxMoves doesn't go below a minimum value (e.g., 1)
+        maxMoves = Math.max(1, faceValue + maxMovesModifier);
+        return maxMovesModifier;
+    }
+
+    public boolean hasMovesLeft() {
+        return currentMoves + 1 <= maxMoves;
+    }
+
+    public boolean isLinked(Node from, Node to) {
+        return board.isLinked(from, to);
+    }
+
+    /** Whether the current player may step onto the given node this move. */
+    public boolean canMoveTo(Node targetNode) {
+        Player currentPlayer = getCurrentPlayer();
+
+        // Sub-nodes are indexed after the main board and can never be stepped onto, as in Main.nodeClicked
+        if (targetNode.getIndex() >= board.getNodes().size()) {
+            return false;
+        }
+
+        // Prevent moving back to a visited node
+        if (currentPlayer.hasVisited(targetNode)) {
+            return false;
+        }
+        return currentNode != targetNode
+            && currentNode.containsCurrentPlayer(currentPlayer)
+            && isLinked(currentNode, targetNode);
+    }
+
+    private boolean notSingleAttached(Node targetNode) {
+        return board.getInDegree(targetNode.index) == 0;
+    }
+
+    /** Moves the current player onto the target node; returns false if the move was refused. */
+    public boolean moveTo(Node targetNode) {
+        Player currentPlayer = getCurrentPlayer();
+
+        // Check if the target node has already been visited
+        // Check if the current node is only attached to one other node
+        if (!notSingleAttached(targetNode) && currentPlayer.hasVisited(targetNode)) {
+            return false; // Prevent the player from moving back
+        }
+
+        // Mark the target node as visited
+        currentPlayer.markVisited(currentNode);
+
+        currentMoves++;
+        currentNode.deOccupy(currentPlayer.getName());
+        targetNode.occupy(currentPlayer);
+        currentPlayer.setCurrentNode(targetNode);
+        currentNode = targetNode;
+        return true;
+    }
+
+    /** Adds a chance square's resources to the current player the first time it is opened. */
+    public boolean openChanceSquare(Node node) {
+        Task chanceTask = node.getTask();
+        if (chanceTask == null || !chanceTask.isChanceSquare() || chanceTask.hasBeenOpened()) {
+            return false;
+        }
+
+        Player currentPlayer = getCurrentPlayer();
+        for (Resource resource : chanceTask.getResources()) {
+            if (resource.getType().equals("Money")) {
+                currentPlayer.getRand().addAmount(resource.getAmount());
+            } else if (resource.getType().equals("People")) {
+                currentPlayer.getRand2().addAmount(resource.getAmount());
+            }
+        }
+
+        // Do not mark the chance square as taken, so it can be reused
+        chanceTask.setHasBeenOpened(true);
+        return true;
+    }
+
+    public boolean isObjectiveClaimedByOther(String category, Player player) {
+        return objectiveOwners.containsKey(category) && objectiveOwners.get(category) != player;
+    }
+
+    /**
+     * Claims the task's objective for the player if needed and returns whether the player may
+     * go on to select the task.
+     */
+    public boolean claimTask(Player player, Task task) {
+        String taskCategory = task.getCategory();
+
+        // Check if the player has an active task
+        if (player.hasActiveTask()) {
+            return false;
+        }
+
+        // Check if the objective is already claimed by another player
+        if (isObjectiveClaimedByOther(taskCategory, player)) {
+            return false;
+        }
+
+        // If the objective is not claimed, claim it for the current player
+        if (!objectiveOwners.containsKey(taskCategory) && player.currentCategory == null || player.currentCategory == taskCategory) {
+            objectiveOwners.put(taskCategory, player);
+        }
+
+        // Check if the task belongs to the player's current objective category
+        return (player.getCurrentCategory() == null || player.getCurrentCategory().equals(taskCategory))
+            && !player.isObjectiveStarted();
+    }
+
+    /** Charges the selecting fee and hands the task to the player. */
+    public void selectTask(Player player, Task task) {
+        // Check the resources and deduct the selecting fee
+        for (Resource resource : task.getResources()) {
+            if (resource.getType().equals("Money")) {
+                player.getRand().deductAmount((int) (resource.getAmount() * 0.2));
+            } else if (resource.getType().equals("People")) {
+                player.getRand2().deductAmount((int) (resource.getAmount() * 0.2));
+            }
+        }
+
+        player.addTask(task);
+        task.setOwner(player);
+        task.setTaken(true);
+        recordSelection(task);
+        board.markAppearanceDirty();
+    }
+
+    /** Accepts a task that another player passed on, charging the selecting fee. */
+    public void acceptPendingTask(Player player, Task pendingTask) {
+        player.addTask(pendingTask);
+        pendingTask.setOwner(player);
+        pendingTask.setTaken(true); // Mark the task as selected
+        player.removePendingTask(pendingTask); // Remove the task from pending tasks
+
+        int selectingFeeMoney = (int) (pendingTask.getResourceAmount("Money") * 0.2);
+        int selectingFeePeople = (int) (pendingTask.getResourceAmount("People") * 0.2);
+        player.getRand().deductAmount(selectingFeeMoney);
+        player.getRand2().deductAmount(selectingFeePeople);
+        board.markAppearanceDirty();
+    }
+
+    private void recordSelection(Task task) {
+        List<Task> selected = selectedTasks.get(task.getCategory());
+        if (selected == null) {
+            return;
+        }
+        selected.add(task);
+
+        // Check if all tasks for the objective have been selected
+        if (selected.size() == TASKS_PER_OBJECTIVE) {
+            objectiveCanStart.put(task.getCategory(), true);
+        }
+    }
+
+    /** Whether the player may start the given (already selected) task now. */
+    public boolean canStartTask(Player player, Task task) {
+        if (task == null || !task.taskTaken() || task.getCategory() == null) {
+            return false;
+        }
+        if (!task.getCategory().equals(player.getCurrentCategory()) || !isObjectiveReady(task.getCategory())) {
+            return false;
+        }
+        return !task.isCompleted() && !task.isActive() && !player.hasActiveTask();
+    }
+
+    public void startTask(Player player, Task task) {
+        player.startTask(task);
+    }
+
+    public boolean canCollectMakersRefill() {
+        return makersRefill && currentNode.isJobCentre;
+    }
+
+    public boolean isMakersRefillPending() {
+        return makersRefill;
+    }
+
+    public void collectMakersRefill() {
+        getCurrentPlayer().getRand().addAmount(makersZarRefillAmount);
+        getCurrentPlayer().getRand2().addAmount(makersPeopleRefillAmount);
+        makersRefill = false;
+    }
+
+    /** Finishes the current player's turn; returns true when a full round has been played. */
+    public boolean endTurn() {
+        Player currentPlayer = getCurrentPlayer();
+
+        if (currentPlayer.getTaskSpeed() > 0) {
+            currentPlayer.setTaskSpeed(currentPlayer.getTaskSpeed() - 1); // Decrement task speed
+            if (currentPlayer.getTaskSpeed() == 0) {
+                // Task completed
+                Task completedTask = currentPlayer.getTasks().get(currentPlayer.getTasks().size() - 1);
+                completedTask.setCompleted(true);
+            }
+        }
+
+        // Progress the active task (if any)
+        if (currentPlayer.hasActiveTask()) {
+            currentPlayer.progressTask();
+        }
+
+        // Check if all tasks of the current category are complete
+        boolean hadObjective = currentPlayer.getCurrentCategory() != null;
+        if (currentPlayer.isCurrentCategoryComplete() && hadObjective) {
+            completedObjectives++;
+        }
+
+        // Tasks may have been completed above
+        board.markAppearanceDirty();
+
+        // Reset the list of visited nodes for the current player
+        currentPlayer.resetVisitedNodes();
+
+        boolean roundFinished = false;
+        if (turn + 1 < players.size()) {
+            turn++;
+        } else {
+            turn = 0;
+            makersRefill = true;
+            globalTurn++;
+            currentSeason = weatherManager.getSeason(globalTurn);
+            roundFinished = true;
+        }
+
+        // Mark the starting node as visited at the beginning of the turn
+        currentNode = getCurrentPlayer().getCurrentNode();
+        getCurrentPlayer().markVisited(currentNode);
+
+        currentMoves = 0;
+        return roundFinished;
+    }
+
+    /** A match is lost as soon as any player runs out of money or people. */
+    public boolean isGameLost() {
+        for (Player player : players) {
+            if (player.getRand().getAmount() <= 0 || player.getRand2().getAmount() <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isGameWon() {
+        return completedObjectives >= OBJECTIVES.length;
+    }
+
+    public boolean isObjectiveReady(String category) {
+        return objectiveCanStart.getOrDefault(category, false);
+    }
+
+    public Player getObjectiveOwner(String category) {
+        return objectiveOwners.get(category);
+    }
+
+    public int getSelectedTaskCount(String category) {
+        List<Task> selected = selectedTasks.get(category);
+        return selected == null ? 0 : selected.size();
+    }
+
+    public Player getCurrentPlayer() {
+        return players.get(turn);
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public Node getCurrentNode() {
+        return currentNode;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getCurrentMoves() {
+        return currentMoves;
+    }
+
+    public int getMaxMoves() {
+        return maxMoves;
+    }
+
+    public int getGlobalTurn() {
+        return globalTurn;
+    }
+
+    public int getYears() {
+        return years;
+    }
+
+    public String getCurrentSeason() {
+        return currentSeason;
+    }
+
+    public String getCurrentWeather() {
+        return currentWeather;
+    }
+
+    // Per game, so simulated games running side by side never share the count
+    public int getCompletedObjectives() {
+        return completedObjectives;
+    }
+
+    public WeatherManager getWeatherManager() {
+        return weatherManager;
+    }
+}
@@ -0,0 +1,67 @@
+package com.main;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seedable random stream for one game session. Every system that affects the rules (board,
+ * dice, weather) takes its own split of the session stream, so a match replays exactly from its
+ * seed and separate simulations never share a generator.
+ */
+public class GameRandom {
+    private final long seed;
+    private final SplittableRandom random;
+
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    private GameRandom(long seed, SplittableRandom random) {
+        this.seed = seed;
+        this.random = random;
+    }
+
+    // Seed used when a match is started, -Dmakers.seed=<n> replays a previous one
+    public static GameRandom forNewSession() {
+        return new GameRandom(Long.getLong("makers.seed", System.nanoTime()));
+    }
+
+    /** Returns an independent stream; splitting in the same order always gives the same streams. */
+    public GameRandom split() {
+        return new GameRandom(seed, random.split());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Returns a value from 0 (inclusive) to bound (exclusive). */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /** Returns a value from start to end, both inclusive, like MathUtils.random(int, int). */
+    public int nextInt(int start, int end) {
+        return random.nextInt(start, end + 1);
+    }
+
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    public float nextFloat(float start, float end) {
+        return start + (float) random.nextDouble() * (end - start);
+    }
+
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+}
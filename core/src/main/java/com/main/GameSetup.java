@@ -91,8 +91,11 @@ public class GameSetup implements Screen {
                     PlayerManager.getInstance().addPlayer(player);
                 }
 
-                Board board = new Board(new ArrayList<>(tasks));
-                ((Game) Gdx.app.getApplicationListener()).setScreen(new Main(board.getNodes()));
+                GameRandom random = GameRandom.forNewSession();
+                Gdx.app.log("GameSetup", "Session seed: " + random.getSeed());
+
+                Board board = new Board(new ArrayList<>(tasks), random.split());
+                ((Game) Gdx.app.getApplicationListener()).setScreen(new LoadingScreen(board, random));
             }
         });
 
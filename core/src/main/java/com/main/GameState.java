@@ -1,6 +1,7 @@
 package com.main;
 
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
@@ -15,8 +16,8 @@ public class GameState {
     private Camera uiCamera;
     private Viewport viewport;
     private String currentScreen;
-    private int completedAllCategories = 0;
     private boolean removeWeatherEffects = false;
+    private boolean renderOnDemand = true;
     private boolean forceColourUpdate = false;
 
     // data
@@ -69,6 +70,16 @@ public class GameState {
         return "#FFFFFF";
     }
 
+    // Same lookup as getColourHex, but returns a shared parsed colour that must not be modified
+    public Color getColour(String name) {
+        for (ColourMap mapping : colourMappings) {
+            if (mapping.getColourName().equalsIgnoreCase(name)) {
+                return isColourBlind() ? mapping.getColourBlindColour() : mapping.getStandardColour();
+            }
+        }
+        return Color.WHITE;
+    }
+
 
     public boolean isRemoveWeatherEffects() {
         return removeWeatherEffects;
@@ -77,16 +88,12 @@ public class GameState {
         this.removeWeatherEffects = !removeWeatherEffects;
     }
 
-    public int getCompletedAllCategories() {
-        return completedAllCategories;
-    }
-
-    public void updateCompletedAllCategories() {
-        this.completedAllCategories +=1;
+    // When on, the board stops redrawing while nothing on it is moving (see Main.updateRenderingMode)
+    public boolean isRenderOnDemand() {
+        return renderOnDemand;
     }
-
-    public void resetCompletedAllCategories() {
-        this.completedAllCategories = 0;
+    public void setRenderOnDemand() {
+        this.renderOnDemand = !renderOnDemand;
     }
 
     public static GameState getInstance() {
@@ -0,0 +1,110 @@
+package com.main;
+
+import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/**
+ * Shown between the setup screen and the match while the match's sounds and images decode in the
+ * background. Each frame hands the AssetManager a small time slice and draws a progress bar; once
+ * everything is loaded the match is built, which then only picks up already-decoded assets.
+ */
+public class LoadingScreen implements Screen {
+    private static final int FRAME_BUDGET_MILLIS = 12; // leaves room in a 60 fps frame for drawing
+    private static final float BAR_WIDTH = 600;
+    private static final float BAR_HEIGHT = 30;
+
+    private final Board board;
+    private final GameRandom random;
+    private ShapeRenderer shapeRenderer;
+    private SpriteBatch batch;
+    private BitmapFont font;
+    private final GlyphLayout layout = new GlyphLayout();
+    private long startTime;
+
+    public LoadingScreen(Board board, GameRandom random) {
+        this.board = board;
+        this.random = random;
+    }
+
+    @Override
+    public void show() {
+        shapeRenderer = new ShapeRenderer();
+        batch = new SpriteBatch();
+        font = new BitmapFont();
+        font.getData().setScale(2f);
+        font.setColor(Color.WHITE);
+
+        startTime = System.nanoTime();
+        int queued = AssetManifest.queueMatchAssets();
+        Gdx.app.log("LoadingScreen", "Queued " + queued + " assets");
+    }
+
+    @Override
+    public void render(float delta) {
+        boolean finished = AssetRegistry.getInstance().update(FRAME_BUDGET_MILLIS);
+        float progress = finished ? 1f : AssetRegistry.getInstance().getProgress();
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float x = (Gdx.graphics.getWidth() - BAR_WIDTH) / 2f;
+        float y = Gdx.graphics.getHeight() / 2f - BAR_HEIGHT / 2f;
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(Color.YELLOW);
+        shapeRenderer.rect(x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        shapeRenderer.end();
+
+        batch.begin();
+        layout.setText(font, "Loading... " + (int) (progress * 100) + "%");
+        font.draw(batch, layout, (Gdx.graphics.getWidth() - layout.width) / 2f, y + BAR_HEIGHT + 20 + layout.height);
+        batch.end();
+
+        if (finished) {
+            Gdx.app.log("LoadingScreen", "Assets loaded in " + (System.nanoTime() - startTime) / 1000000 + "ms");
+            ((Game) Gdx.app.getApplicationListener()).setScreen(new Main(board, random));
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+    }
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void resume() {}
+
+    // Nothing returns to this screen, so it cleans up as soon as the match replaces it
+    @Override
+    public void hide() {
+        dispose();
+    }
+
+    @Override
+    public void dispose() {
+        if (shapeRenderer != null) {
+            shapeRenderer.dispose();
+            shapeRenderer = null;
+        }
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+}
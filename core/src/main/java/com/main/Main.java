@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
@@ -20,44 +21,33 @@ import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.main.tooltips.*;
-import com.main.weatherSystem.WeatherManager;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static com.badlogic.gdx.Gdx.input;
 
 public class Main implements Screen {
     private ShapeRenderer shapeRenderer;
+    private final Board board;
+    private BoardMesh boardMesh;
     private List<Node> nodes;
-    private Node currentNode;
+    private final Vector3 mousePos = new Vector3(); // reused for unprojecting the cursor every frame
+    private final Array<Node> nodesUnderCursor = new Array<>();
     private final List<Player> players;
+    private GameEngine engine;
 
     // Tasks
-    private ArrayList<Task> task;
     private boolean attemptedTaskSelection = false; // Tracks if the player tried to select a task
 
-    // will store the all the selected tasks for an objective
-    private List<Task> selectedEducationTasks = new ArrayList<>();
-    private List<Task> selectedFinanceTasks = new ArrayList<>();
-    private List<Task> selectedBusinessTasks = new ArrayList<>();
-    private List<Task> selectedCommunityTasks = new ArrayList<>();
-    private boolean financeObjectiveCanStart = false;
+    // tracks which objective screens have already been shown
     private boolean hasFinanceObjectiveStarted = false;
-    private boolean businessObjectiveCanStart = false;
     private boolean hasBusinessObjectiveStarted = false;
-    private boolean educationObjectiveCanStart = false;
     private boolean hasEducationObjectiveStarted = false;
-    private boolean communityObjectiveCanStart = false;
     private boolean hasCommunityObjectiveStarted = false;
-    private Map<String, Player> objectiveOwners = new HashMap<>(); // Tracks which player owns which objective
 
 
     // Weather things
-    private WeatherManager weatherManager;
-    private String currentSeason;
     private String currentWeather;
     private String weatherAlertText; // Text to display in the alert
     private float weatherAlertTimer; // Timer to control how long the alert is displayed
@@ -65,9 +55,6 @@ public class Main implements Screen {
 
 
     // makers
-    private boolean makersRefill = false;
-    private float makersZarRefillAmount = 75000;
-    private float makersPeopleRefillAmount = 50;
     private float makerAlertTimer; // Timer to control how long the alert is displayed
 
 
@@ -77,12 +64,6 @@ public class Main implements Screen {
     private boolean dragging;
 
     public boolean teleport = false;
-    private int turn;
-    private int currentMoves;
-    private int maxMoves;
-    private int globalTurn = 0; // used to progress season
-    private int years = 0;
-    private ArrayList<String> seasons;
     private String gameMode;
 
     // Ending turn
@@ -99,6 +80,9 @@ public class Main implements Screen {
     private SpriteBatch batch;
     private BitmapFont font;
     private Renderer renderer;
+    private FrameProfiler profiler; // Fed every frame, but only measures while the debug window is open
+    // Game-time systems step at a fixed 60 Hz; up to five steps catch up after a slow frame
+    private final FixedStepClock clock = new FixedStepClock(1 / 60f, 5);
 
     // Debug window
     private boolean debugWindow = false;
@@ -131,53 +115,45 @@ public class Main implements Screen {
 
     // Dice setup
     private Dice dice;
+    private final GameRandom random;
     private ModelBatch modelBatch;
     private PerspectiveCamera camera3d;
 
     // Makers center setup
 
     //weather particles
-    private List<RainParticle> particles = new ArrayList<>();
+    private static final String RAIN_PATH = "ui/rain.png";
+    private static final int RAIN_DROPS = 500;
+    private final ParticleField rain = new ParticleField(RAIN_DROPS);
+    private TextureRegion rainTexture;
+    // Drops that fall off the bottom of the screen start again at a random point along the top
+    private final ParticleField.Respawner rainRespawner = (field, i) -> field.set(i,
+        MathUtils.random(0, Gdx.graphics.getWidth()), Gdx.graphics.getHeight(), MathUtils.random(100, 300));
     ThunderstormEffect thunderstormEffect;
 
 
-    public Main(List<Node> nodes) {
-        this.nodes = nodes;
+    public Main(Board board, GameRandom random) {
+        this.board = board;
+        this.nodes = board.getNodes();
+        this.random = random;
         players = PlayerManager.getInstance().getPlayers();
         initializeGame();
 
-        // sound
-        SoundManager.getInstance().loadSound("moving", "audio/moving.mp3");
-        SoundManager.getInstance().loadSound("click", "audio/click.mp3");
-        SoundManager.getInstance().loadSound("notification", "audio/notification.mp3");
-
-
-        SoundManager.getInstance().loadSound("taskFinished", "audio/taskFinished1.mp3");
-        SoundManager.getInstance().loadSound("startingTaskSound", "audio/startingTaskSound.mp3");
-        SoundManager.getInstance().loadMusic("rainSound", "audio/rainSound.mp3");
-        SoundManager.getInstance().loadMusic("stormSound", "audio/stormSound.mp3");
-        SoundManager.getInstance().loadMusic("snowfallSound", "audio/snowfallSound.mp3");
-        SoundManager.getInstance().loadMusic("windSound", "audio/windSound.mp3");
-
-        Texture particleTexture = new Texture(Gdx.files.internal("ui/rain.png"));
-
+        // sound; the loading screen queued the same tables, so these are already decoded
+        for (String[] sound : AssetManifest.SOUNDS) {
+            SoundManager.getInstance().loadSound(sound[0], sound[1]);
+        }
+        for (String[] music : AssetManifest.MUSIC) {
+            SoundManager.getInstance().loadMusic(music[0], music[1]);
+        }
 
-        for (int i = 0; i < 500; i++) {
-            // Create a new IsoParticle and add it to the list
-            particles.add(new RainParticle(100, 200, 150, particleTexture));
+        rainTexture = UiAtlas.getInstance().acquire(RAIN_PATH);
+        for (int i = 0; i < RAIN_DROPS; i++) {
+            rain.add(100, 200, 150);
         }
 
         GameState.getInstance().setCurrentScreen("MS");
 
-        seasons = new ArrayList<>();
-        seasons.add("Spring");
-        seasons.add("Summer");
-        seasons.add("Autumn");
-        seasons.add("Winter");
-
-        currentSeason = seasons.get(0);
-        this.weatherManager = new WeatherManager();
-
        // Gdx.input.setInputProcessor(renderer.getStage());
         // Initialize the playerTab
 
@@ -187,19 +163,33 @@ public class Main implements Screen {
 
     @Override
     public void show() {
-        shapeRenderer = new ShapeRenderer();
-        batch = new SpriteBatch();
+        // Built on the first show only. Coming back from task help, settings or a chance square
+        // reuses them, so their UiAtlas holds are taken once and given back in dispose()
+        if (renderer == null) {
+            shapeRenderer = new ShapeRenderer();
+            batch = new SpriteBatch();
 
-        TutorialManager.getInstance().setBatch(batch);
+            font = new BitmapFont();
+            font.setColor(Color.WHITE);
 
+            setupCameras();
+            thunderstormEffect = new ThunderstormEffect(camera, "Clear", nodes);
 
-        font = new BitmapFont();
-        font.setColor(Color.WHITE);
+            renderer = new Renderer(camera, uiCamera, viewport, circleRadius, players.get(0), this);  // Pass 'this' (Main) to Renderer
+        }
+        TutorialManager.getInstance().setBatch(batch);
 
-        setupCameras();
-        thunderstormEffect = new ThunderstormEffect(camera, "Clear", nodes);
+        // Built once; coming back from another screen (task help, selection) may have changed tasks
+        if (boardMesh == null) {
+            boardMesh = new BoardMesh(board);
+        }
+        board.markAppearanceDirty();
 
-        renderer = new Renderer(camera, uiCamera, viewport, circleRadius, players.get(0), this);  // Pass 'this' (Main) to Renderer
+        if (profiler == null) {
+            profiler = new FrameProfiler();
+            profiler.setEnabled(debugWindow);
+        }
+        profiler.setPaused(false);
     }
 
     private void setupCameras() {
@@ -226,9 +216,6 @@ public class Main implements Screen {
 
         TutorialManager.getInstance().registerTutorial("weather",List.of("ui/tutorial/weather.png", "ui/tutorial/weather2.png"));
 
-        // load tasks
-        task = ResourceLoader.loadTask();
-
         nodes.get(0).setIsJobCentre(true);
         nodes.get(0).updateColour();
 
@@ -248,20 +235,6 @@ public class Main implements Screen {
             Gdx.app.log("Debug", "Node " + i + " Category: " + (node.getTask() != null ? node.getTask().getCategory() : "No Category"));
         }
 
-        int taskId = 0;
-        while (true) {
-            int a = MathUtils.random(nodes.size() - 1);
-            if (a != 0 && !nodes.get(a).isJobCentre) {
-                if (taskId >= task.size()) {
-                    break;
-
-                }
-                nodes.get(a).setTask(task.get(taskId));
-                nodes.get(a).updateColour();
-                taskId++;
-            }
-        }
-
         Tooltip.getInstance().addTooltip("A", "S","Settings", "ui/toolTips/keyboard_key_p.png", TooltipPosition.BOTTOM_RIGHT, false, false);
 
 
@@ -279,67 +252,11 @@ public class Main implements Screen {
 
         Tooltip.getInstance().addTooltip("AMC","EMC","Leave","ui/toolTips/keyboard_key_escape.png", TooltipPosition.BOTTOM_RIGHT, false, false);
 
-        // Steps :
-        // 1. setup smaller nodes
-        // 2. check through the nodes with tasks that have subtasks (currentNode.getTask() != null && currentNode.getTask().getSteps() != null)
-        // 3. then assign number of squares for those subs-tasks and assign them to the node as sub-nodes position them on the line to the connecting node
-        // 4. when player gets to the end of sub-node goes to connect node or if on main node they can skip to the other main node assign subtask to those nodes
-        for (Node currentNode : nodes) {
-            Task task = currentNode.getTask();
-            if (task != null && task.getSteps() != null) {
-                List<Task> subtasks = task.getSteps();
-                currentNode.subNodes = new ArrayList<>();
-
-                // Assign sub-nodes along the line to the first linked node
-                if (!currentNode.links.isEmpty() || checkLinkedNode(currentNode)) {
-                    Node connectedNode;
-                    if(currentNode.links.isEmpty()){
-                        connectedNode = getLinkedNode(currentNode); // Assume first link as the main connection
-
-                    }else{
-                        connectedNode = currentNode.links.get(0); // Assume first link as the main connection
-
-                    }
-                    float dx = (connectedNode.x - currentNode.x) / (subtasks.size() + 1); // x increment
-                    float dy = (connectedNode.y - currentNode.y) / (subtasks.size() + 1); // y increment
-
-                    for (int i = 0; i < subtasks.size(); i++) {
-                        float subX = currentNode.x + dx * (i + 1); // Increment position along the line
-                        float subY = currentNode.y + dy * (i + 1);
-                        Node subNode = new Node(subX, subY, currentNode.id + "-sub" + i, currentNode.size / 2);
-                        subNode.setTask(subtasks.get(i)); // Assign subtask to sub-node
-                        currentNode.subNodes.add(subNode);
-
-                        // Link the sub-node to the main and connected nodes
-                        currentNode.addLink(subNode);
-                        subNode.addLink(currentNode);
-                        subNode.addLink(connectedNode);
-
-                        // Add links to all other sub-nodes for this node
-                        for (int j = 0; j < currentNode.subNodes.size(); j++) {
-                            Node otherSubNode = currentNode.subNodes.get(j);
-                            if (otherSubNode != subNode) { // Don't add a self-link
-                                subNode.addLink(otherSubNode);
-                                otherSubNode.addLink(subNode);
-                            }
-                        }
-                        subNode.updateColour();
-                    }
-                }
-            }
-        }
-
-
+        engine = new GameEngine(board, players, random.split());
         for (Player player : players) {
-            nodes.get(0).occupy(player);
-            player.setCurrentNode(nodes.get(0));
             player.setPlayerNodeCirclePos(circleRadius);
         }
 
-        currentMoves = 0;
-        turn = 0;
-        currentNode = nodes.get(0);
-
         centerX = Gdx.graphics.getWidth() - rightSidePadding - boxWidth / 2;  // Move to the right side of the screen
 
         setupDice();
@@ -353,13 +270,13 @@ public class Main implements Screen {
         modelBatch = new ModelBatch();
 
         // Load textures for each dice face
-        Texture[] diceTextures = new Texture[6];
+        TextureRegion[] diceTextures = new TextureRegion[6];
         for (int i = 0; i < 6; i++) {
-            diceTextures[i] = new Texture("ui/dice/dice_face_" + (i + 1) + ".png"); // dice1.png to dice6.png
+            diceTextures[i] = UiAtlas.getInstance().acquire(diceFacePath(i)); // dice1.png to dice6.png
         }
 
         // Create the dice
-        dice = new Dice(diceTextures);
+        dice = new Dice(diceTextures, random.split());
 
         // Set up a perspective camera
         camera3d = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
@@ -371,69 +288,54 @@ public class Main implements Screen {
         camera3d.near = 0.1f;
         camera3d.far = 100f;
         camera3d.update();
+        dice.setView(camera3d);
         TutorialManager.getInstance().startTutorial("overview");
         TutorialManager.getInstance().addToQueue("weather");
 
     }
 
-    public Boolean checkLinkedNode(Node currentNode) {
-        for (Node node : nodes) {
-            return node.links.contains(currentNode);
-        }
-        return null;
-    }
-
-    public Node getLinkedNode(Node currentNode) {
-        for (Node node : nodes) {
-            if (node.links.contains(currentNode)) {
-                return node;
-            }
-        }
-        return null;
-
-    }
-
 
     @Override
     public void render(float delta) {
-
+        profiler.beginFrame();
 
         if(GameState.getInstance().isForceColourUpdate()){
             for(Node node : nodes){
                 node.updateColour();
             }
+            board.markAppearanceDirty();
             GameState.getInstance().setForceColourUpdate();
         }
         // Render the main game screen
             // Existing rendering logic for the main game screen
             Tooltip.getInstance().clear();
+            profiler.begin(FrameProfiler.Phase.TUTORIAL);
             TutorialManager.getInstance().update();
+            profiler.end(FrameProfiler.Phase.TUTORIAL);
             renderer.camera.update();
 
         // Check if any player has run out of resources
 
-        for (Player player : players) {
-            if (player.getRand().getAmount() <= 0 || player.getRand2().getAmount() <= 0) {
-                // Trigger game-over screen
-                ((Game) Gdx.app.getApplicationListener()).setScreen(new GameEndScreen(false));
-                return; // Stop rendering the current screen
-            }
+        if (engine.isGameLost()) {
+            // Trigger game-over screen
+            endMatch(false);
+            return; // Stop rendering the current screen
         }
 
-       if(GameState.getInstance().getCompletedAllCategories() == 4){
-           ((Game) Gdx.app.getApplicationListener()).setScreen(new GameEndScreen(true));
-
+       if(engine.isGameWon()){
+           endMatch(true);
+           return;
        }
 
 
-        if (financeObjectiveCanStart && !hasFinanceObjectiveStarted) {
+        if (engine.isObjectiveReady("Financial") && !hasFinanceObjectiveStarted) {
             ((Game) Gdx.app.getApplicationListener()).setScreen(new StartObjectiveScreen(this, "Financial", () -> {
                 // Logic to execute when the objective is confirmed
                 Gdx.app.log("DEBUG", "Financial objective confirmed to start");
             }));
             hasFinanceObjectiveStarted = true;
         }
-        if (educationObjectiveCanStart && !hasEducationObjectiveStarted) {
+        if (engine.isObjectiveReady("Educational") && !hasEducationObjectiveStarted) {
             ((Game) Gdx.app.getApplicationListener()).setScreen(new StartObjectiveScreen(this, "Educational", () -> {
                 // Logic to execute when the objective is confirmed
                 Gdx.app.log("DEBUG", "Educational objective confirmed to start");
@@ -441,14 +343,14 @@ public class Main implements Screen {
             }));
             hasEducationObjectiveStarted = true;
         }
-        if (businessObjectiveCanStart && !hasBusinessObjectiveStarted) {
+        if (engine.isObjectiveReady("Business") && !hasBusinessObjectiveStarted) {
             ((Game) Gdx.app.getApplicationListener()).setScreen(new StartObjectiveScreen(this, "Business", () -> {
                 // Logic to execute when the objective is confirmed
                 Gdx.app.log("DEBUG", "Business objective confirmed to start");
             }));
             hasBusinessObjectiveStarted = true;
         }
-        if (communityObjectiveCanStart && !hasCommunityObjectiveStarted) {
+        if (engine.isObjectiveReady("Community") && !hasCommunityObjectiveStarted) {
             ((Game) Gdx.app.getApplicationListener()).setScreen(new StartObjectiveScreen(this, "Community", () -> {
                 Gdx.app.log("DEBUG", "Community objective confirmed to start");
 
@@ -463,33 +365,42 @@ public class Main implements Screen {
             Gdx.gl.glClearColor(0.0078f, 0.0078f, 0.0078f, 0.71f);
             Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
 
-            renderer.getStage().act(delta);
+            profiler.begin(FrameProfiler.Phase.STAGE);
+            renderer.getStage().act(Math.min(delta, 1 / 30f));
 
             renderer.getStage().draw();
+            profiler.end(FrameProfiler.Phase.STAGE);
 
             if (!TutorialManager.getInstance().isActive()) {
+                profiler.begin(FrameProfiler.Phase.INPUT);
                 handleInput();
 
                 if (input.isButtonJustPressed(0) && !dice.getIsVisible()) {
                     nodeClicked();
                 }
+                profiler.end(FrameProfiler.Phase.INPUT);
+            }
 
+            // After an idle spell (continuous rendering off) the delta spans the whole spell, so it is dropped
+            profiler.begin(FrameProfiler.Phase.SIMULATION);
+            int steps = clock.advance(Gdx.graphics.isContinuousRendering() ? delta : 0);
+            for (int i = 0; i < steps; i++) {
+                step(clock.getStep());
+            }
+            float alpha = clock.getAlpha();
+            profiler.end(FrameProfiler.Phase.SIMULATION);
 
-
-                updatePlayerAnimation();
-
-                if (hasClickedNM) {
-                    timeLastNM -= delta;
-                    if (timeLastNM >= 0) {
-                        batch.begin();
-                        font.draw(batch, "No moves left ... Hold space-bar to end turn", (Gdx.graphics.getWidth() - 200) / 2, (Gdx.graphics.getHeight() - 200) / 2);
-                        batch.end();
-                    }
-                }
+            if (!TutorialManager.getInstance().isActive() && hasClickedNM && timeLastNM >= 0) {
+                batch.begin();
+                font.draw(batch, "No moves left ... Hold space-bar to end turn", (Gdx.graphics.getWidth() - 200) / 2, (Gdx.graphics.getHeight() - 200) / 2);
+                batch.end();
             }
 
-            renderer.renderBoard(nodes);
+            profiler.begin(FrameProfiler.Phase.BOARD);
+            renderer.renderBoard(board, boardMesh, alpha);
+            profiler.end(FrameProfiler.Phase.BOARD);
 
+            profiler.begin(FrameProfiler.Phase.WEATHER);
             batch.begin();
 
         batch.setProjectionMatrix(camera.combined);
@@ -500,10 +411,7 @@ public class Main implements Screen {
                     SoundManager.getInstance().playMusic("rainSound", false);
                 }
                 batch.setProjectionMatrix(uiCamera.combined);
-                for (RainParticle particle : particles) {
-                    particle.update(delta);
-                    particle.draw(batch);
-                }
+                rain.draw(batch, rainTexture, 4, 20, Color.CYAN, alpha);
             }else{
                 SoundManager.getInstance().pauseMusic("rainSound");
             }
@@ -513,8 +421,7 @@ public class Main implements Screen {
                     SoundManager.getInstance().playMusic("stormSound", false);
                 }
 
-                    thunderstormEffect.update(delta, currentWeather);
-                    thunderstormEffect.render(batch, renderer.camera.zoom);
+                    thunderstormEffect.render(batch, renderer.camera.zoom, alpha);
 
             }else{
                 SoundManager.getInstance().pauseMusic("stormSound");
@@ -523,8 +430,7 @@ public class Main implements Screen {
                 if(!SoundManager.getInstance().isMusicPlaying("windSound")){
                     SoundManager.getInstance().playMusic("windSound", false);
                 }
-                thunderstormEffect.update(delta, currentWeather);
-                thunderstormEffect.render(batch, renderer.camera.zoom);
+                thunderstormEffect.render(batch, renderer.camera.zoom, alpha);
             }else{
                 SoundManager.getInstance().stopMusic("windSound");
 
@@ -533,8 +439,7 @@ public class Main implements Screen {
                 if(!SoundManager.getInstance().isMusicPlaying("windSound")){
                     SoundManager.getInstance().playMusic("windSound", false);
                 }
-                thunderstormEffect.update(delta, currentWeather);
-                thunderstormEffect.render(batch, renderer.camera.zoom);
+                thunderstormEffect.render(batch, renderer.camera.zoom, alpha);
             }else{
                 SoundManager.getInstance().stopMusic("windSound");
 
@@ -544,12 +449,14 @@ public class Main implements Screen {
         batch.setProjectionMatrix(uiCamera.combined);
 
         batch.end();
+            profiler.end(FrameProfiler.Phase.WEATHER);
 
-            renderer.renderUI(turn, maxMoves, currentMoves, currentWeather, currentSeason, currentNode, attemptedTaskSelection);
+            profiler.begin(FrameProfiler.Phase.UI);
+            renderer.renderUI(engine.getTurn(), engine.getMaxMoves(), engine.getCurrentMoves(), currentWeather, engine.getCurrentSeason(), engine.getCurrentNode(), attemptedTaskSelection);
 
             if (isSpaceBarHeld) {
                 float progress = Math.min(spaceBarHeldTime / requiredHoldTime, 1);
-                renderer.renderProgressBar(progress, players.get(turn).getColour());
+                renderer.renderProgressBar(progress, engine.getCurrentPlayer().getColour());
             } else {
                 batch.begin();
                 font.draw(batch, "Hold space-bar to end turn", (Gdx.graphics.getWidth() - 200) / 2, 20);
@@ -560,32 +467,131 @@ public class Main implements Screen {
                 nodeHover();
             }
 
-            if (debugWindow) {
-                renderer.renderDebugInfo(debugDisplayX, debugDisplayY, debugDisplayWidth, debugDisplayHeight, currentNode, turn, globalTurn, currentSeason, years);
-            }
-
-            camera3d.update();
-            dice.update(delta);
+            profiler.end(FrameProfiler.Phase.UI);
 
-        modelBatch.begin(camera3d);
+            profiler.begin(FrameProfiler.Phase.DICE);
             if (dice.getIsVisible()) {
-                dice.render(modelBatch);
+                batch.setProjectionMatrix(uiCamera.combined);
+                dice.render(modelBatch, batch, Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), alpha);
             }
-            modelBatch.end();
+            profiler.end(FrameProfiler.Phase.DICE);
 
+            profiler.begin(FrameProfiler.Phase.TUTORIAL);
             TutorialManager.getInstance().render();
+            profiler.end(FrameProfiler.Phase.TUTORIAL);
+            profiler.begin(FrameProfiler.Phase.TOOLTIPS);
             Tooltip.getInstance().render(uiCamera, viewport.getWorldWidth(), viewport.getWorldHeight());
+            profiler.end(FrameProfiler.Phase.TOOLTIPS);
 
 
+        profiler.begin(FrameProfiler.Phase.UI);
         if (weatherAlertTimer > 0) {
-                weatherAlertTimer -= delta;
                 renderer.renderWeatherAlert(weatherAlertText);
             }
         if(makerAlertTimer > 0){
-            makerAlertTimer -= delta;
             renderer.renderMakersAlert();
         }
+        profiler.end(FrameProfiler.Phase.UI);
 
+        profiler.endFrame();
+        // Drawn after the frame is measured, so the overlay's own text does not show up in the UI phase
+        if (debugWindow) {
+            renderer.renderDebugInfo(debugDisplayX, debugDisplayY, debugDisplayWidth, debugDisplayHeight, engine.getCurrentNode(), engine.getTurn(), engine.getGlobalTurn(), engine.getCurrentSeason(), engine.getYears(), profiler);
+        }
+        // A screen set during this frame has already run hide(), which must keep the last word
+        if (((Game) Gdx.app.getApplicationListener()).getScreen() == this) {
+            updateRenderingMode();
+        }
+    }
+
+    /**
+     * Advances everything that runs on game time by one fixed step: player movement, the dice roll,
+     * weather effects and the gameplay timers. Frames draw between the last two steps, so the game
+     * plays the same at any frame rate, and a caller could run steps faster than real time.
+     */
+    private void step(float step) {
+        for (Player player : players) {
+            player.savePreviousCirclePos();
+        }
+
+        if (!TutorialManager.getInstance().isActive()) {
+            updatePlayerAnimation(step);
+            updateSpaceBarHold(step);
+            if (hasClickedNM) {
+                timeLastNM -= step;
+            }
+        }
+
+        if (isWeatherShowing()) {
+            if (currentWeather.equals("Rainy") || currentWeather.equals("Snow")) {
+                rain.update(step, 0, rainRespawner);
+            } else {
+                thunderstormEffect.update(step, currentWeather); // Thunderstorms, Cloudy and Partly Cloudy
+            }
+        }
+
+        dice.update(step);
+
+        if (weatherAlertTimer > 0) {
+            weatherAlertTimer -= step;
+        }
+        if (makerAlertTimer > 0) {
+            makerAlertTimer -= step;
+        }
+    }
+
+    /**
+     * Turns continuous rendering off while nothing on screen is changing. Input wakes the window by
+     * itself, since the backend requests a frame for every key, click and mouse move, and the frame
+     * that input starts an animation in turns continuous rendering back on.
+     */
+    private void updateRenderingMode() {
+        boolean continuous = !GameState.getInstance().isRenderOnDemand() || isAnimating();
+        if (Gdx.graphics.isContinuousRendering() != continuous) {
+            Gdx.graphics.setContinuousRendering(continuous);
+        }
+    }
+
+    private boolean isAnimating() {
+        return animatingPlayerMoving
+            || isMarkerSettling()
+            || dice.isRolling()
+            || isWeatherShowing()
+            || weatherAlertTimer > 0
+            || makerAlertTimer > 0
+            || (hasClickedNM && timeLastNM >= 0)
+            || TutorialManager.getInstance().isAnimating()
+            // The profiler in the debug window measures frames, so it needs them drawn continuously
+            || debugWindow
+            // Held keys and buttons zoom, drag and end the turn on every frame, not just on events
+            || input.isKeyPressed(Input.Keys.ANY_KEY)
+            || input.isTouched();
+    }
+
+    // A marker that just arrived is still drawn part-way until the next step catches its previous position up
+    private boolean isMarkerSettling() {
+        for (Player player : players) {
+            if (player.previousCircleX != player.playerCircleX || player.previousCircleY != player.playerCircleY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWeatherShowing() {
+        if (GameState.getInstance().isRemoveWeatherEffects() || currentWeather == null) {
+            return false;
+        }
+        switch (currentWeather) {
+            case "Rainy":
+            case "Snow":
+            case "Thunderstorms":
+            case "Cloudy":
+            case "Partly Cloudy":
+                return true;
+            default:
+                return false;
+        }
     }
 
     @Override
@@ -600,20 +606,28 @@ public class Main implements Screen {
         viewport.update(width, height);
         uiCamera.update();
 
+        // The dice sprite is rendered at the window's resolution, so it is rebuilt for the new size
+        if (camera3d != null && width > 0 && height > 0) {
+            camera3d.viewportWidth = width;
+            camera3d.viewportHeight = height;
+            camera3d.update();
+            dice.setView(camera3d);
+        }
+
     }
 
-    private void updatePlayerAnimation() {
+    private void updatePlayerAnimation(float delta) {
         if (animatingPlayerMoving) {
+            Player player = engine.getCurrentPlayer();
 
-
-            players.get(turn).playerCircleX = MathUtils.lerp(players.get(turn).playerCircleX, players.get(turn).playerTargetX, moveSpeed * Gdx.graphics.getDeltaTime());
-            players.get(turn).playerCircleY = MathUtils.lerp(players.get(turn).playerCircleY, players.get(turn).playerTargetY, moveSpeed * Gdx.graphics.getDeltaTime());
+            player.playerCircleX = MathUtils.lerp(player.playerCircleX, player.playerTargetX, moveSpeed * delta);
+            player.playerCircleY = MathUtils.lerp(player.playerCircleY, player.playerTargetY, moveSpeed * delta);
 
             // Check if we have reached the target position (with a small threshold)
-            if (Math.abs(players.get(turn).playerCircleX - players.get(turn).playerTargetX) < 1 && Math.abs(players.get(turn).playerCircleY - players.get(turn).playerTargetY) < 1) {
+            if (Math.abs(player.playerCircleX - player.playerTargetX) < 1 && Math.abs(player.playerCircleY - player.playerTargetY) < 1) {
 
-                players.get(turn).playerCircleX = players.get(turn).playerTargetX;  // Ensure it exactly matches
-                players.get(turn).playerCircleY = players.get(turn).playerTargetY;
+                player.playerCircleX = player.playerTargetX;  // Ensure it exactly matches
+                player.playerCircleY = player.playerTargetY;
                 animatingPlayerMoving = false;  // Stop the animation
                 Gdx.app.log("Debug", "Animation Finished");
 
@@ -622,60 +636,36 @@ public class Main implements Screen {
     }
 
     private void nodeHover() {
-        Vector3 mousePos = new Vector3(input.getX(), input.getY(), 0);
+        mousePos.set(input.getX(), input.getY(), 0);
         camera.unproject(mousePos);
 
-        for (Node node : nodes) {
-
-
-            if (mousePos.x >= node.x && mousePos.x <= node.x + node.size &&
-                mousePos.y >= node.y && mousePos.y <= node.y + node.size) {
-
-                if (debugWindow) {
-                    renderer.renderDebugTravelLine(players.get(turn));
-                }
-
-                renderer.renderPopUp(node);
-
-
-            }
-
-            if (node.subNodes != null) {
-                for (Node subNode : node.subNodes) {
-                    if (mousePos.x >= subNode.x && mousePos.x <= subNode.x + subNode.size &&
-                        mousePos.y >= subNode.y && mousePos.y <= subNode.y + subNode.size) {
-
-
-                        if (debugWindow) {
-                            renderer.renderDebugTravelLine(players.get(turn));
-                        }
-
-
-                        renderer.renderPopUp(subNode);
-
-
-                    }
-                }
+        // Main nodes and sub-nodes are both in the spatial index
+        for (Node node : board.getSpatialIndex().query(mousePos.x, mousePos.y, nodesUnderCursor)) {
+            if (debugWindow) {
+                renderer.renderDebugTravelLine(engine.getCurrentPlayer());
             }
 
+            renderer.renderPopUp(node);
         }
-
-
     }
 
     public void nodeClicked() {
-        Vector3 mousePos = new Vector3(input.getX(), input.getY(), 0);
+        mousePos.set(input.getX(), input.getY(), 0);
         camera.unproject(mousePos);
 
         // Check if player has moves left
-        if (currentMoves + 1 > maxMoves) {
+        if (!engine.hasMovesLeft()) {
             hasClickedNM = true;
             timeLastNM = 1.5f;
             return;
         }
 
-        // Iterate over all nodes
-        for (Node node : nodes) {
+        // Only check the nodes under the cursor
+        for (Node node : board.getSpatialIndex().query(mousePos.x, mousePos.y, nodesUnderCursor)) {
+            // Sub-nodes are indexed after the main board and cannot be clicked onto directly
+            if (node.getIndex() >= nodes.size()) {
+                continue;
+            }
 
             // Check if the clicked position is within the bounds of the main node
             if (handleNodeClick(mousePos, node)) {
@@ -693,7 +683,7 @@ public class Main implements Screen {
 
                 moveToNode(node);
             }
-            Player currentPlayer = players.get(turn);
+            Player currentPlayer = engine.getCurrentPlayer();
 
             // Prevent moving back to a visited node
             if (currentPlayer.hasVisited(node)) {
@@ -701,63 +691,33 @@ public class Main implements Screen {
                 return false;
             }
 
-            if (currentNode != node && currentNode.containsCurrentPlayer(currentPlayer)) {
-                if (currentNode.links.contains(node) || node.links.contains(currentNode)) {
-                    moveToNode(node);
-                    Gdx.app.log("DEBUG", "Node changed");
-                    SoundManager.getInstance().playSound("moving", 0.3f);
+            if (engine.canMoveTo(node)) {
+                moveToNode(node);
+                Gdx.app.log("DEBUG", "Node changed");
+                SoundManager.getInstance().playSound("moving", 0.3f);
 
-                    return true;
-                }
+                return true;
             }
         }
         return false;
     }
 
 
-    private boolean notSingleAttached(Node currentNode, Node targetNode){
-
-        int counter = 0;
-        for(Node node : nodes){
-            if(node.links.contains(targetNode)){
-                counter++;
-            }
-        }
-
-        Gdx.app.log("DEBUG", "Node " + counter + " not single attached");
-
-        if(counter == 0){
-            return true;
-        }else{
-            return false;
-
-        }
-    }
-
     private void moveToNode(Node targetNode) {
-        Player currentPlayer = players.get(turn);
+        Player currentPlayer = engine.getCurrentPlayer();
 
-        // Check if the target node has already been visited
-        // Check if the current node is only attached to one other node
-        if (!notSingleAttached(currentNode, targetNode) && currentPlayer.hasVisited(targetNode)) {
+        if (!engine.moveTo(targetNode)) {
             Gdx.app.log("DEBUG", "Cannot move back to a visited node.");
             return; // Prevent the player from moving back
         }
 
-        // Mark the target node as visited
-        currentPlayer.markVisited(currentNode);
-
-        // Proceed with move
-        currentMoves++;
+        // Re-seat the players already standing on the target node
         for (Player occupant : targetNode.occupants) {
-            occupant.setPlayerNodeCirclePos(circleRadius);
+            if (occupant != currentPlayer) {
+                occupant.setPlayerNodeCirclePos(circleRadius);
+            }
         }
 
-        currentNode.deOccupy(currentPlayer.getName());
-        targetNode.occupy(currentPlayer);
-        currentPlayer.setCurrentNode(targetNode);
-        currentNode = targetNode;
-
         currentPlayer.setPlayerNodeTarget(circleRadius);
         animatingPlayerMoving = true;
 
@@ -796,7 +756,7 @@ public class Main implements Screen {
 
         // Task's
 
-        if(currentMoves >= maxMoves){
+        if(!engine.hasMovesLeft()){
             handleAttachTask();
             if (Gdx.input.isKeyJustPressed(Input.Keys.G)) {
                 handleTaskRequest();
@@ -806,11 +766,8 @@ public class Main implements Screen {
             }
         }
 
-        if(Gdx.input.isKeyJustPressed(Input.Keys.C) && makersRefill && currentNode.isJobCentre){
-            players.get(turn).getRand().addAmount(makersZarRefillAmount);
-            players.get(turn).getRand2().addAmount(makersPeopleRefillAmount);
-            makersRefill = false;
-
+        if(Gdx.input.isKeyJustPressed(Input.Keys.C) && engine.canCollectMakersRefill()){
+            engine.collectMakersRefill();
         }
 
         handlePlayerTaskScreen();
@@ -823,7 +780,8 @@ public class Main implements Screen {
 
     private void handlePlayerTaskHelpScreen() {
 
-        Player currentPlayer = players.get(turn);
+        Player currentPlayer = engine.getCurrentPlayer();
+        Node currentNode = engine.getCurrentNode();
         if (currentNode.getTask() != null && currentNode.getTask().isActive() &&
                 (currentPlayer.getCurrentCategory() == null ||
                         !currentPlayer.getCurrentCategory().equals(currentNode.getTask().getCategory()))) {
@@ -845,10 +803,11 @@ public class Main implements Screen {
 
     private void handleToolTips(){
 
-        Player currentPlayer = players.get(turn);
+        Player currentPlayer = engine.getCurrentPlayer();
+        Node currentNode = engine.getCurrentNode();
         boolean isObjectiveClaimed = true;
         if(currentNode.getTask() != null){
-            isObjectiveClaimed = objectiveOwners.containsKey(currentNode.getTask().getCategory()) && objectiveOwners.get(currentNode.getTask().getCategory()) != players.get(turn);
+            isObjectiveClaimed = engine.isObjectiveClaimedByOther(currentNode.getTask().getCategory(), currentPlayer);
         }
         if (!dice.isAlreadyRolled() && dice.getIsVisible() && !dice.isRolling()) {
             Tooltip.getInstance().setVisible("DR", true);
@@ -884,9 +843,7 @@ public class Main implements Screen {
 
             boolean s = false;
             if (currentNode.getTask() != null) {
-                String taskCategory = currentNode.getTask().getCategory();
-                s = objectiveOwners.containsKey(taskCategory) &&
-                        objectiveOwners.get(taskCategory) != players.get(turn);
+                s = engine.isObjectiveClaimedByOther(currentNode.getTask().getCategory(), currentPlayer);
             }
             Tooltip.getInstance().setVisible("GT", !s);
         } else {
@@ -902,7 +859,7 @@ public class Main implements Screen {
             Tooltip.getInstance().setVisible("HT", false);
         }
 
-        if (makersRefill && currentNode.isJobCentre) {
+        if (engine.canCollectMakersRefill()) {
             Tooltip.getInstance().setVisible("MR", true);
         }else{
             Tooltip.getInstance().setVisible("MR", false);
@@ -968,18 +925,12 @@ public class Main implements Screen {
                     int faceValue = dice.getFaceValue();
                     Gdx.app.log("Dice", "Dice Face Value: " + faceValue);
 
-                    // Get the weather and modifier
-                    currentWeather = weatherManager.getWeatherForTurn(currentSeason);
-                    int maxMovesModifier = weatherManager.getMaxMovesModifier(currentWeather);
+                    // Set maxMoves to the rolled face value + weather modifier
+                    int maxMovesModifier = engine.applyRoll(faceValue);
+                    currentWeather = engine.getCurrentWeather();
                     Gdx.app.log("Weather", "Current Weather: " + currentWeather);
                     Gdx.app.log("Weather", "Max Moves Modifier: " + maxMovesModifier);
-
-                    // Set maxMoves to the rolled face value + modifier
-                    maxMoves = faceValue + maxMovesModifier;
-                    Gdx.app.log("Game", "Adjusted Max Moves: " + maxMoves);
-
-                    // Ensure maxMoves doesn't go below a minimum value (e.g., 1)
-                    maxMoves = Math.max(1, maxMoves);
+                    Gdx.app.log("Game", "Adjusted Max Moves: " + engine.getMaxMoves());
 
                     // Set the weather alert text and start the timer
                     weatherAlertText = "Weather: " + currentWeather + " (" + (maxMovesModifier >= 0 ? "+" : "") + maxMovesModifier + " moves)";
@@ -992,222 +943,71 @@ public class Main implements Screen {
     }
 
     private void handleChanceSquare(Node node) {
-        Task chanceTask = node.getTask();
-        if (chanceTask != null && chanceTask.isChanceSquare()) {
-            if (!chanceTask.hasBeenOpened()){
-
-                // Add the resources to the player's resources
-                for (Resource resource : chanceTask.getResources()) {
-                    if (resource.getType().equals("Money")) {
-                        players.get(turn).getRand().addAmount(resource.getAmount());
-                    } else if (resource.getType().equals("People")) {
-                        players.get(turn).getRand2().addAmount(resource.getAmount());
-                    }
-                }
-
-                // Mark the chance square as opened
-                chanceTask.setHasBeenOpened(true);
-
-                // Show the chance square screen
-                Screen currentScreen = ((Game) Gdx.app.getApplicationListener()).getScreen();
-                ((Game) Gdx.app.getApplicationListener()).setScreen(new ChanceSquareScreen(currentScreen, chanceTask));
-
-                // Do not mark the chance square as taken, so it can be reused
-                Gdx.app.log("DEBUG", "Chance square opened. Resources added to player.");
-            }
+        if (engine.openChanceSquare(node)) {
+            // Show the chance square screen
+            Screen currentScreen = ((Game) Gdx.app.getApplicationListener()).getScreen();
+            ((Game) Gdx.app.getApplicationListener()).setScreen(new ChanceSquareScreen(currentScreen, node.getTask()));
 
+            Gdx.app.log("DEBUG", "Chance square opened. Resources added to player.");
         }
     }
 
     private void handleAttachTask() {
-        Player currentPlayer = players.get(turn);
+        Player currentPlayer = engine.getCurrentPlayer();
+        Node currentNode = engine.getCurrentNode();
             if (Gdx.input.isKeyJustPressed(Input.Keys.S)) {
                 attemptedTaskSelection = true;
+                Task task = currentNode.getTask();
 
-                if (currentNode.getTask() != null && !currentNode.getTask().taskTaken()) {
+                if (task != null && !task.taskTaken()) {
                     Gdx.app.debug("DEBUG", "Task not taken and not Null.");
-                    if (currentNode.getTask().isChanceSquare()){
+                    if (task.isChanceSquare()){
                         handleChanceSquare(currentNode);
                     }
-                    else
-                    {
-
-                        Task task = currentNode.getTask();
-                        String taskCategory = task.getCategory();
-
-                        // Check if the player has an active task
-                        if (currentPlayer.hasActiveTask()) {
-                            Gdx.app.log("DEBUG", "You already have an active task. Complete it before starting another.");
-                            return;
-                        }
-
-                        // Check if the objective is already claimed by another player
-                        if (objectiveOwners.containsKey(taskCategory) && objectiveOwners.get(taskCategory) != currentPlayer) {
-
-                            Gdx.app.log("DEBUG", "Objective : "+ taskCategory + " is already claimed by another player");
-                            return; // Exit if the objective is claimed by someone else
-                        }
-
-                        // If the objective is not claimed, claim it for the current player
-                        if (!objectiveOwners.containsKey(taskCategory) && currentPlayer.currentCategory == null || currentPlayer.currentCategory == taskCategory) {
-                            objectiveOwners.put(taskCategory, currentPlayer);
-                            Gdx.app.log("DEBUG", "Player " + currentPlayer.getName() + " has claimed the " + taskCategory + " objective.");
-                        }
-
-                        // Check if the task belongs to the player's current objective category
-                        if (currentPlayer.getCurrentCategory() == null || currentPlayer.getCurrentCategory().equals(taskCategory)) {
-                            if (!currentPlayer.isObjectiveStarted()) {
-                                // Selection Phase: Select the task
-
-                                // Show the TaskSelectionScreen for confirmation
-                                ((Game) Gdx.app.getApplicationListener()).setScreen(new TaskSelectionScreen(this, task, () -> {
-                                    // Deduct the selecting fee and assign the task
-
-                                    // Check the resources and deduct the selecting fee
-                                    for (int i = 0; i < task.getResources().size(); i++) {
-
-                                        String resourceType = task.getResources().get(i).getType();
-                                        double amount = task.getResources().get(i).getAmount();
-
-                                        if (resourceType.equals("Money")) {
-                                            currentPlayer.getRand().deductAmount((int) (task.getResources().get(0).getAmount() * 0.2));
-                                        } else if (resourceType.equals("People")) {
-                                            currentPlayer.getRand2().deductAmount((int) (task.getResources().get(1).getAmount() * 0.2));
-                                        }
-                                    }
-
-                                    currentPlayer.addTask(task);
-                                    task.setOwner(currentPlayer);
-                                    task.setTaken(true);
-
-                                    // Log the selected task in the appropriate list
-                                    switch (taskCategory) {
-                                        case "Educational":
-                                            selectedEducationTasks.add(task);
-                                            Gdx.app.log("DEBUG", "Education task added number" + selectedEducationTasks.size());
-                                            break;
-                                        case "Financial":
-                                            selectedFinanceTasks.add(task);
-                                            Gdx.app.log("DEBUG", "Finance task added number" + selectedFinanceTasks.size());
-                                            break;
-                                        case "Business":
-                                            selectedBusinessTasks.add(task);
-                                            Gdx.app.log("DEBUG", "Business task added number" + selectedBusinessTasks.size());
-                                            break;
-                                        case "Community":
-                                            selectedCommunityTasks.add(task);
-                                            Gdx.app.log("DEBUG", "Community task added number" + selectedCommunityTasks.size());
-                                            break;
-                                    }
-
-                                    Gdx.app.log("DEBUG", "Educational" + selectedEducationTasks.size());
-
-                                    // Check if all tasks for the objective have been selected
-                                    if (selectedEducationTasks.size() == 10 && taskCategory.equals("Educational")) {
-                                        educationObjectiveCanStart = true;
-                                        Gdx.app.log("DEBUG", "Education Objective Should Start");
-                                    } else if (selectedFinanceTasks.size() == 10 && taskCategory.equals("Financial")) {
-                                        financeObjectiveCanStart = true;
-                                        Gdx.app.log("DEBUG", "Finance Objective Should Start");
-                                    } else if (selectedBusinessTasks.size() == 10 && taskCategory.equals("Business")) {
-                                        businessObjectiveCanStart = true;
-                                        Gdx.app.log("DEBUG", "Business Objective Should Start");
-                                    }
-                                    else if (selectedCommunityTasks.size() == 10 && taskCategory.equals("Community")) {
-                                        communityObjectiveCanStart = true;
-                                        Gdx.app.log("DEBUG", "Community Objective Should Start");
-                                    }
-
-                                    Gdx.app.log("DEBUG", "Task selected but not started.");
-                                }));
-
-                            }
-
-
-                        }
+                    else if (engine.claimTask(currentPlayer, task)) {
+                        // Selection Phase: show the TaskSelectionScreen for confirmation
+                        ((Game) Gdx.app.getApplicationListener()).setScreen(new TaskSelectionScreen(this, task, () -> {
+                            // Deduct the selecting fee and assign the task
+                            engine.selectTask(currentPlayer, task);
+                            Gdx.app.log("DEBUG", task.getCategory() + " tasks selected: " + engine.getSelectedTaskCount(task.getCategory()));
+                            Gdx.app.log("DEBUG", "Task selected but not started.");
+                        }));
+                    }
+                    else {
+                        Gdx.app.log("DEBUG", "Task cannot be selected by " + currentPlayer.getName());
                     }
-
                 }
 
                 // starting a task
-                else if (currentNode.getTask() != null && currentNode.getTask().taskTaken()){
-                    if (currentNode.getTask().getCategory() != null && currentNode.getTask().getCategory().equals("Educational") &&
-                        currentPlayer.getCurrentCategory().equals("Educational") && educationObjectiveCanStart){
-                        if (!currentNode.getTask().isCompleted() && !currentNode.getTask().isActive() &&
-                            !currentPlayer.hasActiveTask()) {
-                            ((Game) Gdx.app.getApplicationListener()).setScreen(new TaskStartConfirmationScreen(this, currentNode.getTask(), () -> {
-                                currentPlayer.startTask(currentNode.getTask());
-                            }));
-                        }
-                        else {
-                            Gdx.app.log("DEBUG", "Task cannot be started as it already has been");
-                        }
-                    }
-                    if (currentNode.getTask().getCategory() != null &&
-                            currentNode.getTask().getCategory().equals("Financial") &&
-                            currentPlayer.getCurrentCategory() != null &&
-                            currentPlayer.getCurrentCategory().equals("Financial") &&
-                            financeObjectiveCanStart) {
-
-                        // if the task hasn't been started and player doesn't have active task
-                        if (currentNode.getTask() != null && !currentNode.getTask().isCompleted() && !currentNode.getTask().isActive() &&
-                            !currentPlayer.hasActiveTask()) {
-                            ((Game) Gdx.app.getApplicationListener()).setScreen(new TaskStartConfirmationScreen(this, currentNode.getTask(), () -> {
-                                currentPlayer.startTask(currentNode.getTask());
-                            }));
-                        }
-                        else {
-                            Gdx.app.log("DEBUG", "Task cannot be started as it already has been");
-                        }
+                else if (task != null && task.taskTaken()){
+                    if (engine.canStartTask(currentPlayer, task)) {
+                        ((Game) Gdx.app.getApplicationListener()).setScreen(new TaskStartConfirmationScreen(this, task, () -> {
+                            engine.startTask(currentPlayer, task);
+                        }));
                     }
-                    if (currentNode.getTask() != null && currentNode.getTask().getCategory().equals("Business") &&
-                        currentPlayer.getCurrentCategory().equals("Business") && businessObjectiveCanStart){
-                        // if the task hasn't been started and player doesn't have active task
-                        if (!currentNode.getTask().isCompleted() && !currentNode.getTask().isActive() &&
-                            !currentPlayer.hasActiveTask()) {
-                            ((Game) Gdx.app.getApplicationListener()).setScreen(new TaskStartConfirmationScreen(this, currentNode.getTask(), () -> {
-                                currentPlayer.startTask(currentNode.getTask());
-                            }));
-                        }
-                        else {
-                            Gdx.app.log("DEBUG", "Task cannot be started as it already has been");
-                        }
+                    else {
+                        Gdx.app.log("DEBUG", "Task cannot be started as it already has been");
                     }
-                    if (currentNode.getTask() != null && currentNode.getTask().getCategory().equals("Community") &&
-                        currentPlayer.getCurrentCategory().equals("Community") && communityObjectiveCanStart){
-                        // if the task hasn't been started and player doesn't have active task
-                        if (!currentNode.getTask().isCompleted() && !currentNode.getTask().isActive() &&
-                            !currentPlayer.hasActiveTask()) {
-                            ((Game) Gdx.app.getApplicationListener()).setScreen(new TaskStartConfirmationScreen(this, currentNode.getTask(), () -> {
-                                currentPlayer.startTask(currentNode.getTask());
-                            }));
-                        }
-                        else {
-                            Gdx.app.log("DEBUG", "Task cannot be started as it already has been");
-                        }
-                    }
-
                 }
 
         }
     }
 
     private void handleTaskRequest() {
-        Player currentPlayer = players.get(turn);
+        Player currentPlayer = engine.getCurrentPlayer();
+        Node currentNode = engine.getCurrentNode();
         Task task = currentNode.getTask();
 
         // Check if the objective is already claimed by another player
         boolean isObjectiveClaimed = false;
-        if (currentNode.getTask() != null) {
-            String taskCategory = currentNode.getTask().getCategory();
-            isObjectiveClaimed = objectiveOwners.containsKey(taskCategory) &&
-                objectiveOwners.get(taskCategory) != players.get(turn);
+        if (task != null) {
+            isObjectiveClaimed = engine.isObjectiveClaimedByOther(task.getCategory(), currentPlayer);
         }
 
         if (task != null && !task.taskTaken()) {
             // Check if the current player can select the task
             if (!isObjectiveClaimed && (currentPlayer.getCurrentCategory() == null ||
-                currentPlayer.getCurrentCategory().equals(currentNode.getTask().getCategory()))) {
+                currentPlayer.getCurrentCategory().equals(task.getCategory()))) {
                 // The current player can select the task, so no need to send a request
                 Gdx.app.log("DEBUG", "You can select this task yourself.");
                 return;
@@ -1232,7 +1032,7 @@ public class Main implements Screen {
     }
 
     private void handlePendingTasks() {
-        Player currentPlayer = players.get(turn);
+        Player currentPlayer = engine.getCurrentPlayer();
         List<Task> pendingTasks = currentPlayer.getPendingTasks();
 
         if (!pendingTasks.isEmpty()) {
@@ -1240,31 +1040,7 @@ public class Main implements Screen {
             Task pendingTask = pendingTasks.get(0);
             ((Game) Gdx.app.getApplicationListener()).setScreen(new TaskSelectionScreen(this, pendingTask, () -> {
                 // If the player confirms, add the task to their task list and deduct the fee
-                currentPlayer.addTask(pendingTask);
-                pendingTask.setOwner(currentPlayer);
-                pendingTask.setTaken(true); // Mark the task as selected
-                currentPlayer.removePendingTask(pendingTask); // Remove the task from pending tasks
-
-                double requiredMoney = 0.0;
-                double requiredPeople = 0.0;
-                // Check the resources and deduct the selecting fee
-                for (int i = 0; i < pendingTask.getResources().size(); i++) {
-
-                    String resourceType = pendingTask.getResources().get(i).getType();
-                    double amount = pendingTask.getResources().get(i).getAmount();
-
-                    if (resourceType.equals("Money")) {
-                        requiredMoney = amount;
-                    } else if (resourceType.equals("People")) {
-                        requiredPeople = amount;
-                    }
-                }
-                int selectingFeeMoney = (int) (requiredMoney * 0.2);
-                int selectingFeePeople = (int) (requiredPeople * 0.2);
-                currentPlayer.getRand().deductAmount(selectingFeeMoney); // Deduct money
-                currentPlayer.getRand2().deductAmount(selectingFeePeople); // Deduct people
-
-                Gdx.app.log("DEBUG", "Selecting fee deducted: " + selectingFeeMoney + " ZAR and " + selectingFeePeople + " people");
+                engine.acceptPendingTask(currentPlayer, pendingTask);
                 Gdx.app.log("DEBUG", "Task selected but not started");
 
                 // Return to the main game screen
@@ -1274,72 +1050,26 @@ public class Main implements Screen {
     }
 
     private void endTurn() {
-        Gdx.app.log("DEBUG", "Ending turn for player: " + players.get(turn).getName());
-
-        Player currentPlayer = players.get(turn);
-
-        if (currentPlayer.getTaskSpeed() > 0) {
-            currentPlayer.setTaskSpeed(currentPlayer.getTaskSpeed() - 1); // Decrement task speed
-            if (currentPlayer.getTaskSpeed() == 0) {
-                // Task completed
-                Task completedTask = currentPlayer.getTasks().get(currentPlayer.getTasks().size() - 1);
-                completedTask.setCompleted(true);
-                Gdx.app.log("DEBUG", "Task completed: " + completedTask.getName());
-            }
-        }
-
-        // Progress the active task (if any)
-        if (currentPlayer.hasActiveTask()) {
-            currentPlayer.progressTask();
-        }
-
-        // Check if all tasks of the current category are complete
-        if (currentPlayer.isCurrentCategoryComplete()) {
-
+        Gdx.app.log("DEBUG", "Ending turn for player: " + engine.getCurrentPlayer().getName());
 
-            Gdx.app.log("DEBUG", "All tasks of the current category are complete. Resetting category.");
-        }
-
-        // Reset the list of visited nodes for the current player
-        currentPlayer.resetVisitedNodes();
-
-        // Reset the task selection attempt flag
-        attemptedTaskSelection = false;
-
-        if (turn + 1 < players.size()) {
-            turn++;
-            PlayerManager.getInstance().updateCurrentPlayer(turn);
-        } else {
-            turn = 0;
-            PlayerManager.getInstance().updateCurrentPlayer(turn);
-            makersRefill = true;
+        if (engine.endTurn()) {
             makerAlertTimer = WEATHER_ALERT_DURATION;
             SoundManager.getInstance().playSound("notification");
-            globalTurn++;
-            currentSeason = weatherManager.getSeason(globalTurn);
         }
+        PlayerManager.getInstance().updateCurrentPlayer(engine.getTurn());
 
-        // Mark the starting node as visited at the beginning of the turn
-        currentNode = players.get(turn).getCurrentNode();
-        players.get(turn).markVisited(currentNode); // Mark the starting node as visited
+        // Reset the task selection attempt flag
+        attemptedTaskSelection = false;
 
-        currentMoves = 0;
         dice.resetFace();
         dice.setAlreadyRolled(false);
         dice.setRolling(false);
         dice.setIsVisible(true);
 
-        if (dice.isAlreadyRolled()) {
-            maxMoves = dice.getFaceValue() + weatherManager.getMaxMovesModifier(currentWeather);
-        }
-
         spaceBarHeldTime = 0;
         isSpaceBarHeld = false;
 
-        // Update the playerTab to reflect the current player's tasks
-
-
-        GameState.getInstance().updateData(globalTurn, years);
+        GameState.getInstance().updateData(engine.getGlobalTurn(), engine.getYears());
 
         // Handle pending tasks at the beginning of the turn
         handlePendingTasks();
@@ -1348,16 +1078,22 @@ public class Main implements Screen {
     private void handleSpaceBarInput() {
         if (input.isKeyPressed(Input.Keys.SPACE)) {
             isSpaceBarHeld = true;
-            spaceBarHeldTime += Gdx.graphics.getDeltaTime();  // Increment hold time
+        } else {
+            spaceBarHeldTime = 0;
+            isSpaceBarHeld = false;
+        }
+    }
+
+    // The hold time is game time, so ending a turn takes as long at every frame rate
+    private void updateSpaceBarHold(float step) {
+        if (isSpaceBarHeld) {
+            spaceBarHeldTime += step;  // Increment hold time
 
             // Check if the space bar has been held for the required duration
             if (spaceBarHeldTime >= requiredHoldTime) {
                 // Cycle through players' turns
                endTurn();
             }
-        } else {
-            spaceBarHeldTime = 0;
-            isSpaceBarHeld = false;
         }
     }
 
@@ -1377,6 +1113,7 @@ public class Main implements Screen {
     private void handleDebugWindowToggle() {
         if (input.isKeyJustPressed(Input.Keys.D)) {
             debugWindow = !debugWindow;
+            profiler.setEnabled(debugWindow);
         }
     }
 
@@ -1449,20 +1186,11 @@ public class Main implements Screen {
     }
 
     public boolean isTaskSelectedByCurrentPlayer(Node node) {
-        Player currentPlayer = players.get(turn);
-        return node.getTask() != null && currentPlayer.getTasks().contains(node.getTask());
+        return node.isTaskSelectedByCurrentPlayer(engine.getCurrentPlayer());
     }
 
     public boolean isTaskSelectedByAnyPlayer(Node node) {
-        if (node.getTask() == null) {
-            return false;
-        }
-        for (Player player : players) {
-            if (player.getTasks().contains(node.getTask())) {
-                return true;
-            }
-        }
-        return false;
+        return node.isTaskSelectedByAnyPlayer(players);
     }
 
     @Override
@@ -1475,13 +1203,41 @@ public class Main implements Screen {
 
     }
 
+    // The board is never shown again once a match ends, so everything it holds is given back now
+    private void endMatch(boolean won) {
+        ((Game) Gdx.app.getApplicationListener()).setScreen(new GameEndScreen(won));
+        dispose();
+    }
+
     @Override
     public void hide() {
+        // Other screens expect to be drawn every frame
+        Gdx.graphics.setContinuousRendering(true);
+        // Keeps the debug window's session (and its CSV) open for when the board comes back
+        profiler.setPaused(true);
 
     }
     @Override
     public void dispose() {
         shapeRenderer.dispose();
+        if (boardMesh != null) {
+            boardMesh.dispose();
+        }
+        dice.dispose();
+        for (int i = 0; i < 6; i++) {
+            UiAtlas.getInstance().release(diceFacePath(i));
+        }
+        UiAtlas.getInstance().release(RAIN_PATH);
+        thunderstormEffect.dispose();
+        renderer.dispose();
+        batch.dispose();
+        font.dispose();
+        modelBatch.dispose();
+        profiler.setEnabled(false);
+    }
+
+    private static String diceFacePath(int face) {
+        return "ui/dice/dice_face_" + (face + 1) + ".png";
     }
 
 
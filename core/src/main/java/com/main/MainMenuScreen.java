@@ -20,6 +20,7 @@ public class MainMenuScreen implements Screen {
     private TextButton startButton;
     private TextButton settingsButton;
     private TextButton quitButton;
+    private static final String BACKGROUND_PATH = "ui/menuBackground.png";
     private Texture backgroundTexture;
 
     public MainMenuScreen() {
@@ -30,7 +31,7 @@ public class MainMenuScreen implements Screen {
 
         // Load skin and background texture
         skin = new Skin(Gdx.files.internal("uiskin.json"));
-        backgroundTexture = new Texture(Gdx.files.internal("ui/menuBackground.png"));
+        backgroundTexture = AssetRegistry.getInstance().acquire(BACKGROUND_PATH, Texture.class);
 
         // Create and position buttons
         createButtons();
@@ -133,7 +134,8 @@ public class MainMenuScreen implements Screen {
             skin.dispose();
         }
         if (backgroundTexture != null) {
-            backgroundTexture.dispose();
+            AssetRegistry.getInstance().release(BACKGROUND_PATH);
+            backgroundTexture = null;
         }
     }
 }
@@ -7,10 +7,13 @@ import java.util.Iterator;
 import java.util.List;
 
 public class Node {
+    private static final Color CHANCE_COLOUR = Color.valueOf("#D3D3D3");
+
     float x, y;
     float size;
     public List<Node> links;
     String id;
+    int index = -1; // position in the board's adjacency index, set by Board.buildAdjacency
     public Color colour;
     public boolean occupied;
     List<Player> occupants;
@@ -32,24 +35,29 @@ public class Node {
         this.task = null;
     }
 
+    // Selection is read from the task's holder, so these are constant time whatever the task counts
     public boolean shouldHighlight(Player currentPlayer) {
-        return task != null && currentPlayer.getTasks().contains(task);
+        return isTaskSelectedByCurrentPlayer(currentPlayer);
     }
 
     public boolean isTaskSelectedByAnyPlayer(List<Player> players) {
-        if (task == null) {
-            return false;
-        }
-        for (Player player : players) {
-            if (player.getTasks().contains(task)) {
-                return true;
-            }
-        }
-        return false;
+        return task != null && task.getHolder() != null && players.contains(task.getHolder());
     }
 
     public boolean isTaskSelectedByCurrentPlayer(Player currentPlayer) {
-        return task != null && currentPlayer.getTasks().contains(task);
+        return task != null && task.getHolder() == currentPlayer;
+    }
+
+    // Completed tasks are drawn yellow, everything else keeps the node's own colour
+    public Color getRenderColour() {
+        if (task != null && task.isCompleted()) {
+            return Color.YELLOW;
+        }
+        return colour;
+    }
+
+    public int getIndex() {
+        return index;
     }
 
     public void setIsJobCentre(boolean isJobCentre) {
@@ -90,35 +98,31 @@ public class Node {
     }
 
     public void updateColour() {
-        String hex;
-
         if (isJobCentre) {
-            hex = GameState.getInstance().getColourHex("Yellow");
+            colour = GameState.getInstance().getColour("Yellow");
         } else if (task != null) {
             switch (task.getCategory()) {
                 case "Financial":
-                    hex = GameState.getInstance().getColourHex("Red");
+                    colour = GameState.getInstance().getColour("Red");
                     break;
                 case "Educational":
-                    hex = GameState.getInstance().getColourHex("Green");
+                    colour = GameState.getInstance().getColour("Green");
                     break;
                 case "Business":
-                    hex = GameState.getInstance().getColourHex("Blue");
+                    colour = GameState.getInstance().getColour("Blue");
                     break;
                 case "Community":
-                    hex = GameState.getInstance().getColourHex("Purple");
+                    colour = GameState.getInstance().getColour("Purple");
                     break;
                 case "CHANCE":
-                    hex = "#D3D3D3";
+                    colour = CHANCE_COLOUR;
                     break;
                 default:
-                    hex = GameState.getInstance().getColourHex("White");
+                    colour = GameState.getInstance().getColour("White");
             }
         } else {
-            hex = GameState.getInstance().getColourHex("White");
+            colour = GameState.getInstance().getColour("White");
         }
-
-        this.colour = com.badlogic.gdx.graphics.Color.valueOf(hex);
     }
 
     public Task getTask() {
@@ -0,0 +1,118 @@
+package com.main;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Uniform grid over node bounds in world space, used for hover and click hit-testing. Each node
+ * is stored in every cell its bounds touch, so a point query only looks at the nodes in one cell.
+ * Cells are kept in a sparse map, so the board can sit anywhere and grow without resizing.
+ */
+public class NodeGrid {
+    private final float cellSize;
+    private final LongMap<Array<Node>> cells = new LongMap<>();
+
+    public NodeGrid(float cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive.");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public void insert(Node node) {
+        int minX = cell(node.x), maxX = cell(node.x + node.size);
+        int minY = cell(node.y), maxY = cell(node.y + node.size);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                long key = key(cx, cy);
+                Array<Node> bucket = cells.get(key);
+                if (bucket == null) {
+                    bucket = new Array<>(false, 4);
+                    cells.put(key, bucket);
+                }
+                bucket.add(node);
+            }
+        }
+    }
+
+    public void remove(Node node) {
+        int minX = cell(node.x), maxX = cell(node.x + node.size);
+        int minY = cell(node.y), maxY = cell(node.y + node.size);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                long key = key(cx, cy);
+                Array<Node> bucket = cells.get(key);
+                if (bucket != null) {
+                    bucket.removeValue(node, true);
+                    if (bucket.isEmpty()) {
+                        cells.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Moves a node and re-files it under its new bounds; nodes must only be moved through here once indexed. */
+    public void move(Node node, float x, float y) {
+        remove(node);
+        node.x = x;
+        node.y = y;
+        insert(node);
+    }
+
+    public void clear() {
+        cells.clear();
+    }
+
+    /** Adds every node whose bounds contain the point to {@code out}, which is cleared first. */
+    public Array<Node> query(float x, float y, Array<Node> out) {
+        out.clear();
+        Array<Node> bucket = cells.get(key(cell(x), cell(y)));
+        if (bucket == null) {
+            return out;
+        }
+        for (int i = 0; i < bucket.size; i++) {
+            Node node = bucket.get(i);
+            if (x >= node.x && x <= node.x + node.size && y >= node.y && y <= node.y + node.size) {
+                out.add(node);
+            }
+        }
+        return out;
+    }
+
+    /** Adds every node whose bounds overlap the rectangle to {@code out}, which is cleared first. */
+    public Array<Node> query(Rectangle area, Array<Node> out) {
+        out.clear();
+        int minX = cell(area.x), maxX = cell(area.x + area.width);
+        int minY = cell(area.y), maxY = cell(area.y + area.height);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                Array<Node> bucket = cells.get(key(cx, cy));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size; i++) {
+                    Node node = bucket.get(i);
+                    if (node.x > area.x + area.width || node.x + node.size < area.x
+                        || node.y > area.y + area.height || node.y + node.size < area.y) {
+                        continue;
+                    }
+                    // A node spanning several cells is only reported from the first cell both it and the area cover
+                    if (cx == Math.max(minX, cell(node.x)) && cy == Math.max(minY, cell(node.y))) {
+                        out.add(node);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+}
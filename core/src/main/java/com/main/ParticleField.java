@@ -0,0 +1,122 @@
+package com.main;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Falling weather particles (rain, snow, storm drops) kept as parallel float arrays rather than an
+ * object per drop. Updating is one loop over the arrays, and drawing writes every drop's quad into
+ * a reused vertex array that the batch takes in a single call with one tint, so the particle count
+ * can grow to tens of thousands without per-drop allocation or colour changes.
+ *
+ * Each particle also remembers its height before the last update, so a field stepped at a fixed
+ * rate can be drawn part-way between two steps.
+ */
+public class ParticleField {
+    /** Decides where a particle that fell below the floor starts again, usually through {@link #set}. */
+    public interface Respawner {
+        void respawn(ParticleField field, int index);
+    }
+
+    private static final int FLOATS_PER_PARTICLE = 20; // four corners of x, y, colour, u, v
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] previousY;
+    private final float[] speed;
+    private final float[] vertices;
+    private int count;
+
+    public ParticleField(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A particle field needs room for at least one particle.");
+        }
+        x = new float[capacity];
+        y = new float[capacity];
+        previousY = new float[capacity];
+        speed = new float[capacity];
+        vertices = new float[capacity * FLOATS_PER_PARTICLE];
+    }
+
+    /** Adds a particle and returns its index, or -1 when the field is full. */
+    public int add(float px, float py, float fallSpeed) {
+        if (count == x.length) {
+            return -1;
+        }
+        set(count, px, py, fallSpeed);
+        return count++;
+    }
+
+    public void set(int index, float px, float py, float fallSpeed) {
+        x[index] = px;
+        y[index] = py;
+        previousY[index] = py; // a moved particle is drawn where it is, not swept from where it was
+        speed[index] = fallSpeed;
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /** Moves the particles in [from, to) by the same amount, e.g. to follow the cloud they fall from. */
+    public void translate(int from, int to, float dx, float dy) {
+        for (int i = from; i < to; i++) {
+            x[i] += dx;
+            y[i] += dy;
+            previousY[i] += dy;
+        }
+    }
+
+    /** Lets every particle fall for delta seconds, handing those below floorY to the respawner. */
+    public void update(float delta, float floorY, Respawner respawner) {
+        for (int i = 0; i < count; i++) {
+            previousY[i] = y[i];
+            y[i] -= speed[i] * delta;
+            if (y[i] < floorY) {
+                respawner.respawn(this, i);
+            }
+        }
+    }
+
+    /**
+     * Draws every particle as a width × height quad of the region, all in the given tint, alpha of
+     * the way (0 to 1) from its height before the last update to its current one.
+     */
+    public void draw(Batch batch, TextureRegion region, float width, float height, Color tint, float alpha) {
+        if (count == 0) {
+            return;
+        }
+        float colour = tint.toFloatBits();
+        float u = region.getU(), v = region.getV(), u2 = region.getU2(), v2 = region.getV2();
+
+        float[] out = vertices;
+        int k = 0;
+        for (int i = 0; i < count; i++) {
+            float left = x[i], bottom = previousY[i] + (y[i] - previousY[i]) * alpha;
+            float right = left + width, top = bottom + height;
+
+            out[k++] = left; out[k++] = bottom; out[k++] = colour; out[k++] = u; out[k++] = v2;
+            out[k++] = left; out[k++] = top; out[k++] = colour; out[k++] = u; out[k++] = v;
+            out[k++] = right; out[k++] = top; out[k++] = colour; out[k++] = u2; out[k++] = v;
+            out[k++] = right; out[k++] = bottom; out[k++] = colour; out[k++] = u2; out[k++] = v2;
+        }
+        batch.draw(region.getTexture(), out, 0, k);
+    }
+}
@@ -2,6 +2,7 @@ package com.main;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.ui.Window;
 
 import java.util.ArrayList;
@@ -20,6 +21,7 @@ public class Player {
     float amountDoanted = 0;
 
     float playerCircleX, playerCircleY;
+    float previousCircleX, previousCircleY; // where the marker was before the last simulation step
     float playerTargetX, playerTargetY;
 
     // resources
@@ -82,9 +84,25 @@ public class Player {
 
             this.playerCircleX = currentNode.x + currentNode.size / 2 + offsetX;
             this.playerCircleY = currentNode.y - circleRadius * 1.5f + offsetY;
+            savePreviousCirclePos(); // placed, not moved, so there is nothing to interpolate
         }
     }
 
+    // Called at the start of every simulation step, before the marker moves
+    void savePreviousCirclePos() {
+        previousCircleX = playerCircleX;
+        previousCircleY = playerCircleY;
+    }
+
+    // Marker position alpha (0 to 1) of the way from the previous simulation step to the last one
+    float getDrawCircleX(float alpha) {
+        return MathUtils.lerp(previousCircleX, playerCircleX, alpha);
+    }
+
+    float getDrawCircleY(float alpha) {
+        return MathUtils.lerp(previousCircleY, playerCircleY, alpha);
+    }
+
     public void updateAmountDonated(double amount){
         amountDoanted += amount;
     }
@@ -130,22 +148,21 @@ public class Player {
         }
 
         // Check if the task already exists in the list before adding
-        for (Task existingTask : taskList) {
-            if (existingTask.equals(task)) {
-                System.out.println("Task " + task.getName() + " is already in the list.");
-                return;
-            }
+        if (task.getHolder() == this) {
+            System.out.println("Task " + task.getName() + " is already in the list.");
+            return;
         }
 
         // If not a duplicate, add the task to the list and mark it as selected
         taskList.add(task);
+        task.setHolder(this);
         task.setSelected(true);
     }
 
 
     public boolean hasSubTasks(Task task) {
         for (Task subtask : task.getSteps()) {
-            if (taskList.contains(subtask)) {
+            if (subtask.getHolder() == this) {
                 return true;
             }
         }
@@ -154,7 +171,7 @@ public class Player {
 
 
     public boolean hasTask(Task task) {
-        return taskList.contains(task);
+        return task.getHolder() == this;
     }
 
     public Resource getRand() {
@@ -208,8 +225,10 @@ public class Player {
 
         currentCategory = null;
         activeTask = null;
-        GameState.getInstance().updateCompletedAllCategories();
         pastTaskList.addAll(taskList);
+        for (Task task : taskList) {
+            task.setHolder(null); // archived tasks no longer count as selected on the board
+        }
         taskList.clear();
         pastCategories.add(currentCategory);
         objectiveStarted = false;
@@ -4,10 +4,10 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -19,6 +19,7 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import java.util.List;
+import java.util.Objects;
 
 public class Renderer {
 
@@ -38,12 +39,33 @@ public class Renderer {
     private Skin skin;
 
     private Window playerPopup;
-    private Texture makersCenter;
-    private Texture activeTask;
+    private static final String MAKERS_CENTER_PATH = "ui/makersCenter.png";
+    private static final String ACTIVE_TASK_PATH = "ui/fixing.png";
+    private TextureRegion makersCenter;
+    private TextureRegion activeTask;
     private List<Player> players;
 
 
     private Window confirmationPopup;
+    private final Vector3 popUpPosition = new Vector3();
+    private final TextLayoutCache layouts = new TextLayoutCache(128);
+
+    // Wrapped pop-up lines are kept until the hovered node or its description changes
+    private final Array<String> popUpLines = new Array<>();
+    private Node popUpNode;
+    private String popUpDescription;
+
+    // HUD strings are rebuilt only when what they show changes, so an idle frame builds none
+    private String weatherSeason, weatherName, weatherText;
+    private String objective, objectiveText;
+    private String turnPlayerName, turnText;
+    private String randType, peopleType;
+    private double randAmount, peopleAmount;
+    private String resourceRand, resourcePeople;
+    private int movesLeft = -1;
+    private String movesLeftText;
+    private int taskTurnsLeft = Integer.MIN_VALUE;
+    private String taskProgressText;
 
 
     public Renderer(OrthographicCamera camera, OrthographicCamera uiCamera, Viewport viewport, float circleRadius, Player player, Main main) {
@@ -78,8 +100,8 @@ public class Renderer {
 
 
     private void loadTextures() {
-        makersCenter = new Texture(Gdx.files.internal("ui/makersCenter.png"));
-        activeTask = new Texture(Gdx.files.internal("ui/fixing.png"));
+        makersCenter = UiAtlas.getInstance().acquire(MAKERS_CENTER_PATH);
+        activeTask = UiAtlas.getInstance().acquire(ACTIVE_TASK_PATH);
     }
 
 
@@ -88,88 +110,52 @@ public class Renderer {
 
 
 
-    public void renderBoard(List<Node> nodes) {
-        shapeRenderer.setProjectionMatrix(camera.combined);
+    public void renderBoard(Board board, BoardMesh boardMesh, float alpha) {
+        List<Node> nodes = board.getNodes();
 
-        // Draw links between nodes
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(Color.RED);
-        for (Node node : nodes) {
-            for (Node linkedNode : node.links) {
-                if (node.subNodes == null || !node.subNodes.contains(linkedNode)) {
-                    shapeRenderer.line(node.x + node.size / 2, node.y + node.size / 2,
-                        linkedNode.x + linkedNode.size / 2, linkedNode.y + linkedNode.size / 2);
-                }
-            }
+        // Links and node diamonds come from the baked mesh, which is only rewritten when the board changed
+        if (board.consumeAppearanceDirty()) {
+            boardMesh.refresh(players);
         }
-        shapeRenderer.end();
+        boardMesh.render(camera.combined);
 
-        // Draw nodes
+        // Selection borders and occupants each go in their own pass, so the shape renderer
+        // never switches type mid-board and flushes once per pass rather than per selected node
         shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        Player currentPlayer = PlayerManager.getInstance().getCurrentPlayer();
 
+        // Draw a white border around nodes whose task is selected by the current player
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+        shapeRenderer.setColor(Color.WHITE);
         for (Node node : nodes) {
-            // Check if the node's task is selected by any player
-            boolean isTaskSelectedByAnyPlayer = false;
-
-            for (Player player : players) {
-                if (player.getTasks().contains(node.getTask())) {
-                    isTaskSelectedByAnyPlayer =  true;
-                }
+            if (!node.isTaskSelectedByCurrentPlayer(currentPlayer)) {
+                continue;
             }
-
-            float scaleFactor = isTaskSelectedByAnyPlayer ? 1.5f : 1.0f; // Scale up by 1.5x if selected
-
-            float halfWidth = (node.size / 2) * scaleFactor;
-            float halfHeight = (node.size / 4) * scaleFactor;
+            // Selected nodes are drawn scaled up by 1.5x
+            float halfWidth = (node.size / 2) * 1.5f;
+            float halfHeight = (node.size / 4) * 1.5f;
 
             float topX = node.x + 10, topY = node.y + 10 + halfHeight;
             float rightX = node.x + 10 + halfWidth, rightY = node.y + 10;
             float bottomX = node.x + 10, bottomY = node.y + 10 - halfHeight;
             float leftX = node.x + 10 - halfWidth, leftY = node.y + 10;
 
-            // If the task is completed, set the node colour to yellow
-            if (node.getTask() != null && node.getTask().isCompleted()) {
-                shapeRenderer.setColor(Color.YELLOW);
-            } else {
-                // Otherwise, use the node's original colour
-                shapeRenderer.setColor(node.colour);
-            }
-
-
-            // Draw the node
             shapeRenderer.triangle(topX, topY, rightX, rightY, bottomX, bottomY);
             shapeRenderer.triangle(bottomX, bottomY, leftX, leftY, topX, topY);
+        }
+        shapeRenderer.end();
 
-            // Check if the node's task is selected by the current player
-            boolean isTaskSelectedByCurrentPlayer = PlayerManager.getInstance().getCurrentPlayer().getTasks().contains(node.getTask());
-
-            // Draw a white border if the task is selected by the current player
-            if (isTaskSelectedByCurrentPlayer) {
-                shapeRenderer.end(); // End the filled shape rendering
-                shapeRenderer.begin(ShapeRenderer.ShapeType.Line); // Switch to line rendering
-                shapeRenderer.setColor(Color.WHITE); // Set border color to white
-
-                // Draw the border around the node
-                shapeRenderer.triangle(topX, topY, rightX, rightY, bottomX, bottomY);
-                shapeRenderer.triangle(bottomX, bottomY, leftX, leftY, topX, topY);
-
-                shapeRenderer.end(); // End the line rendering
-                shapeRenderer.begin(ShapeRenderer.ShapeType.Filled); // Switch back to filled rendering
-            }
-
-
-
-            // Draw occupants (players) on the node
+        // Draw occupants (players) on the nodes
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        for (Node node : nodes) {
             if (node.occupied) {
                 for (int i = 0; i < Math.min(4, node.getOccupants().size()); i++) {
                     Player player = node.getOccupants().get(i);
                     shapeRenderer.setColor(player.getColour());
-                    shapeRenderer.circle(player.playerCircleX, player.playerCircleY, circleRadius);
+                    shapeRenderer.circle(player.getDrawCircleX(alpha), player.getDrawCircleY(alpha), circleRadius);
                 }
             }
         }
-
         shapeRenderer.end();
 
         // Draw the Makers Center icon
@@ -179,8 +165,8 @@ public class Renderer {
         for (Node node : nodes) {
             if (node.isJobCentre) {
                 float scale = 0.25f;
-                float textureWidth = makersCenter.getWidth() * scale;
-                float textureHeight = makersCenter.getHeight() * scale;
+                float textureWidth = makersCenter.getRegionWidth() * scale;
+                float textureHeight = makersCenter.getRegionHeight() * scale;
 
                 float centerX = node.x + 10;
                 float centerY = node.y + 10;
@@ -191,8 +177,8 @@ public class Renderer {
                 batch.draw(makersCenter, textureX, textureY, textureWidth, textureHeight);
             }else if(node.getTask().isActive()){
                 float scale = 0.05f;
-                float textureWidth = activeTask.getWidth() * scale;
-                float textureHeight = activeTask.getHeight() * scale;
+                float textureWidth = activeTask.getRegionWidth() * scale;
+                float textureHeight = activeTask.getRegionHeight() * scale;
 
                 float centerX = node.x + 10;
                 float centerY = node.y + 30;
@@ -214,8 +200,12 @@ public class Renderer {
 
         // Draw weather and season information
         font.setColor(Color.YELLOW);
-        String weatherText = "Season: " + currentSeason + "\nWeather: " + currentWeather;
-        font.draw(batch, weatherText, 10, Gdx.graphics.getHeight() - 250);
+        if (!currentSeason.equals(weatherSeason) || !currentWeather.equals(weatherName)) {
+            weatherSeason = currentSeason;
+            weatherName = currentWeather;
+            weatherText = "Season: " + currentSeason + "\nWeather: " + currentWeather;
+        }
+        font.draw(batch, layouts.layout(font, weatherText), 10, Gdx.graphics.getHeight() - 250);
 
         // Draw the current player's objective below the weather information
         String objective = PlayerManager.getInstance().getCurrentPlayer().getCurrentCategory();
@@ -223,61 +213,79 @@ public class Renderer {
             Color objectiveColor = getColorForObjective(objective);
             font.setColor(objectiveColor);
 
-            String objectiveText = "Current Objective: " + objective;
-            GlyphLayout layout = new GlyphLayout(font, objectiveText);
+            if (!objective.equals(this.objective)) {
+                this.objective = objective;
+                objectiveText = "Current Objective: " + objective;
+            }
+            GlyphLayout layout = layouts.layout(font, objectiveText);
 
             float x = 10; // Left side of the screen with padding
             float y = Gdx.graphics.getHeight() - 400; // Below the weather information
 
-            font.draw(batch, objectiveText, x, y);
+            font.draw(batch, layout, x, y);
         }
 
         // Draw current player information
         font.setColor(players.get(turn).getColour());
         String playerName = players.get(turn).getName();
-        int hashIndex = playerName.indexOf('#');
-        if (hashIndex != -1) {
-            playerName = playerName.substring(0, hashIndex);
+        if (!playerName.equals(turnPlayerName)) {
+            turnPlayerName = playerName;
+            int hashIndex = playerName.indexOf('#');
+            if (hashIndex != -1) {
+                playerName = playerName.substring(0, hashIndex);
+            }
+            turnText = "Turn : " + playerName;
         }
-        String turnText = "Turn : " + playerName;
 
         // Draw money (rand) and people (rand2) resources
-        String resourceRand = players.get(turn).getRand().getType() + " : " + players.get(turn).getRand().getAmount() + " ZAR";
-        String resourcePeople = players.get(turn).getRand2().getType() + " : " + players.get(turn).getRand2().getAmount();
+        Resource rand = players.get(turn).getRand();
+        if (!rand.getType().equals(randType) || rand.getAmount() != randAmount || resourceRand == null) {
+            randType = rand.getType();
+            randAmount = rand.getAmount();
+            resourceRand = randType + " : " + randAmount + " ZAR";
+        }
+        Resource people = players.get(turn).getRand2();
+        if (!people.getType().equals(peopleType) || people.getAmount() != peopleAmount || resourcePeople == null) {
+            peopleType = people.getType();
+            peopleAmount = people.getAmount();
+            resourcePeople = peopleType + " : " + peopleAmount;
+        }
 
-        font.draw(batch, turnText, 10, viewport.getWorldHeight() - 30);
+        font.draw(batch, layouts.layout(font, turnText), 10, viewport.getWorldHeight() - 30);
 
         if (maxMoves == 0) {
-            font.draw(batch, "Number of moves left : Roll dice ", 10, viewport.getWorldHeight() - 60);
+            font.draw(batch, layouts.layout(font, "Number of moves left : Roll dice "), 10, viewport.getWorldHeight() - 60);
         } else {
-            font.draw(batch, "Number of moves left : " + (maxMoves - currentMoves), 10, viewport.getWorldHeight() - 60);
+            if (maxMoves - currentMoves != movesLeft || movesLeftText == null) {
+                movesLeft = maxMoves - currentMoves;
+                movesLeftText = "Number of moves left : " + movesLeft;
+            }
+            font.draw(batch, layouts.layout(font, movesLeftText), 10, viewport.getWorldHeight() - 60);
         }
-        font.draw(batch, "Resources :", 10, viewport.getWorldHeight() - 90);
+        font.draw(batch, layouts.layout(font, "Resources :"), 10, viewport.getWorldHeight() - 90);
 
         // Draw money (rand)
-        font.draw(batch, resourceRand, 40, viewport.getWorldHeight() - 120);
+        font.draw(batch, layouts.layout(font, resourceRand), 40, viewport.getWorldHeight() - 120);
         // Draw people (rand2) below money
-        font.draw(batch, resourcePeople, 40, viewport.getWorldHeight() - 150);
+        font.draw(batch, layouts.layout(font, resourcePeople), 40, viewport.getWorldHeight() - 150);
 
         // Draw task progress information
         int turnsLeft = players.get(turn).getTurnsLeftForTask();
-        if (turnsLeft >= 0) {
-            String taskProgressText = "Turns left for task: " + turnsLeft;
-            font.draw(batch, taskProgressText, 10, viewport.getWorldHeight() - 180);
-        } else {
-            String taskProgressText = "No active task.";
-            font.draw(batch, taskProgressText, 10, viewport.getWorldHeight() - 180);
+        if (turnsLeft != taskTurnsLeft) {
+            taskTurnsLeft = turnsLeft;
+            taskProgressText = turnsLeft >= 0 ? "Turns left for task: " + turnsLeft : "No active task.";
         }
+        font.draw(batch, layouts.layout(font, taskProgressText), 10, viewport.getWorldHeight() - 180);
 
 
 
         // Draw the "Press 'T' to open player tab" text in the top-right corner
         font.setColor(Color.WHITE);
         String playerTabText = "Press 'T' to open player tab";
-        GlyphLayout playerTabLayout = new GlyphLayout(font, playerTabText);
+        GlyphLayout playerTabLayout = layouts.layout(font, playerTabText);
         float playerTabX = Gdx.graphics.getWidth() - playerTabLayout.width - 20; // Right side of the screen with padding
         float playerTabY = Gdx.graphics.getHeight() - 50; // Top of the screen with padding
-        font.draw(batch, playerTabText, playerTabX, playerTabY);
+        font.draw(batch, playerTabLayout, playerTabX, playerTabY);
 
         // Check if the objective is already claimed by another player
         boolean isObjectiveClaimed = false;
@@ -303,38 +311,38 @@ public class Renderer {
                                 font.setColor(Color.WHITE);
                                 font.getData().setScale(2f); // Larger font size for better visibility
                                 String taskMessage = "This is a chance square, press 's' to open.";
-                                GlyphLayout taskLayout = new GlyphLayout(font, taskMessage);
+                                GlyphLayout taskLayout = layouts.layout(font, taskMessage);
                                 float taskX = Gdx.graphics.getWidth() - taskLayout.width - 20; // Right side of the screen with padding
                                 float taskY = playerTabY - taskLayout.height - 50; // Positioned lower to avoid overlap
-                                font.draw(batch, taskMessage, taskX, taskY);
+                                font.draw(batch, taskLayout, taskX, taskY);
                             }
                             else {
                                 font.setColor(Color.RED);
                                 Gdx.app.log("chance square opened", currentNode.getTask().getName());
                                 font.getData().setScale(2f); // Larger font size for better visibility
                                 String taskMessage = "This chance square has already been opened.";
-                                GlyphLayout taskLayout = new GlyphLayout(font, taskMessage);
+                                GlyphLayout taskLayout = layouts.layout(font, taskMessage);
                                 float taskX = Gdx.graphics.getWidth() - taskLayout.width - 20; // Right side of the screen with padding
                                 float taskY = playerTabY - taskLayout.height - 50; // Positioned lower to avoid overlap
-                                font.draw(batch, taskMessage, taskX, taskY);
+                                font.draw(batch, taskLayout, taskX, taskY);
                             }
                         } else if (!isObjectiveClaimed && (currentPlayer.getCurrentCategory() == null ||
                             currentPlayer.getCurrentCategory().equals(currentNode.getTask().getCategory()))) {
                             font.setColor(Color.WHITE);
 //                            font.getData().setScale(2f); // Larger font size for better visibility
                             String taskMessage = "Task Available to Select";
-                            GlyphLayout taskLayout = new GlyphLayout(font, taskMessage);
+                            GlyphLayout taskLayout = layouts.layout(font, taskMessage);
                             float taskX = Gdx.graphics.getWidth() - taskLayout.width - 20; // Right side of the screen with padding
                             float taskY = playerTabY - taskLayout.height - 50; // Positioned lower to avoid overlap
-                            font.draw(batch, taskMessage, taskX, taskY);
+                            font.draw(batch, taskLayout, taskX, taskY);
                         } else if (isObjectiveClaimed || (currentPlayer.getCurrentCategory() != null && !currentNode.getTask().getCategory().equals(currentPlayer.getCurrentCategory()))) {
                             font.setColor(Color.RED);
                             font.getData().setScale(2f); // Larger font size for better visibility
                             String categoryMessage = "You cannot select tasks from other people's categories.";
-                            GlyphLayout categoryLayout = new GlyphLayout(font, categoryMessage);
+                            GlyphLayout categoryLayout = layouts.layout(font, categoryMessage);
                             float categoryX = Gdx.graphics.getWidth() - categoryLayout.width - 20; // Right side of the screen with padding
                             float categoryY = playerTabY - categoryLayout.height - 50; // Positioned lower to avoid overlap
-                            font.draw(batch, categoryMessage, categoryX, categoryY);
+                            font.draw(batch, categoryLayout, categoryX, categoryY);
                         }
                     } else {
                         // Only display the initial message if the task is in the same category
@@ -343,29 +351,29 @@ public class Renderer {
                                 font.setColor(Color.WHITE);
                                 font.getData().setScale(2f); // Larger font size for better visibility
                                 String taskMessage = "This is a chance square, press 's' to open.";
-                                GlyphLayout taskLayout = new GlyphLayout(font, taskMessage);
+                                GlyphLayout taskLayout = layouts.layout(font, taskMessage);
                                 float taskX = Gdx.graphics.getWidth() - taskLayout.width - 20; // Right side of the screen with padding
                                 float taskY = playerTabY - taskLayout.height - 50; // Positioned lower to avoid overlap
-                                font.draw(batch, taskMessage, taskX, taskY);
+                                font.draw(batch, taskLayout, taskX, taskY);
                             }
 
                         } else if (!isObjectiveClaimed && (currentPlayer.getCurrentCategory() == null ||
                             currentPlayer.getCurrentCategory().equals(currentNode.getTask().getCategory()))) {
                             font.setColor(Color.WHITE);
                             String taskMessage = "Task Available";
-                            GlyphLayout taskLayout = new GlyphLayout(font, taskMessage);
+                            GlyphLayout taskLayout = layouts.layout(font, taskMessage);
                             float taskX = Gdx.graphics.getWidth() - taskLayout.width - 20; // Right side of the screen with padding
                             float taskY = playerTabY - taskLayout.height - 50; // Positioned lower to avoid overlap
-                            font.draw(batch, taskMessage, taskX, taskY);
+                            font.draw(batch, taskLayout, taskX, taskY);
                         } else if (isObjectiveClaimed) {
                             // Display the message to give the task to another player
                             font.setColor(Color.WHITE);
                             font.getData().setScale(2f); // Larger font size for better visibility
                             String giveTaskMessage = "The task is of a different objective.\nPress 'g' to give the task to another player.";
-                            GlyphLayout giveTaskLayout = new GlyphLayout(font, giveTaskMessage);
+                            GlyphLayout giveTaskLayout = layouts.layout(font, giveTaskMessage);
                             float giveTaskX = Gdx.graphics.getWidth() - giveTaskLayout.width - 20; // Right side of the screen with padding
                             float giveTaskY = playerTabY - giveTaskLayout.height - 50; // Positioned lower to avoid overlap
-                            font.draw(batch, giveTaskMessage, giveTaskX, giveTaskY);
+                            font.draw(batch, giveTaskLayout, giveTaskX, giveTaskY);
                         }
                     }
                 }
@@ -379,30 +387,30 @@ public class Renderer {
                     font.setColor(Color.WHITE);
                     font.getData().setScale(2f);
                     String taskMessage = "Task Available to Start. Press 's' to Start Task.";
-                    GlyphLayout taskLayout = new GlyphLayout(font, taskMessage);
+                    GlyphLayout taskLayout = layouts.layout(font, taskMessage);
                     float taskX = Gdx.graphics.getWidth() - taskLayout.width - 20;
                     float taskY = playerTabY - taskLayout.height - 50;
-                    font.draw(batch, taskMessage, taskX, taskY);
+                    font.draw(batch, taskLayout, taskX, taskY);
                 }
                 else if (currentNode.getTask().isActive()){
 
                     font.setColor(Color.WHITE);
                     font.getData().setScale(2f);
                     String taskMessage = "Task Is Active";
-                    GlyphLayout taskLayout = new GlyphLayout(font, taskMessage);
+                    GlyphLayout taskLayout = layouts.layout(font, taskMessage);
                     float taskX = Gdx.graphics.getWidth() - taskLayout.width - 20;
                     float taskY = playerTabY - taskLayout.height - 50;
-                    font.draw(batch, taskMessage, taskX, taskY);
+                    font.draw(batch, taskLayout, taskX, taskY);
                 }
                 else if (currentNode.getTask().isCompleted()){
 
                     font.setColor(Color.WHITE);
                     font.getData().setScale(2f);
                     String taskMessage = "Task Completed";
-                    GlyphLayout taskLayout = new GlyphLayout(font, taskMessage);
+                    GlyphLayout taskLayout = layouts.layout(font, taskMessage);
                     float taskX = Gdx.graphics.getWidth() - taskLayout.width - 20;
                     float taskY = playerTabY - taskLayout.height - 50;
-                    font.draw(batch, taskMessage, taskX, taskY);
+                    font.draw(batch, taskLayout, taskX, taskY);
                 }
             }
         }
@@ -470,8 +478,6 @@ public class Renderer {
         // Draw player names
         batch.begin();
         font.setColor(Color.WHITE);
-        GlyphLayout layout = new GlyphLayout();
-
         for (int i = 0; i < playerCount; i++) {
             float circleX = startX + i * SPACER;
             String playerName = players.get(i).getName();
@@ -480,7 +486,7 @@ public class Renderer {
                 playerName = playerName.substring(0, hashIndex); // Extract name before '#'
             }
 
-            layout.setText(font, playerName);
+            GlyphLayout layout = layouts.layout(font, playerName);
             float textX = circleX - layout.width / 2;
             font.draw(batch, layout, textX, textY);
         }
@@ -506,7 +512,7 @@ public class Renderer {
         shapeRenderer.end();
     }
 
-    public void renderDebugInfo(float debugDisplayX, float debugDisplayY, float debugDisplayWidth, float debugDisplayHeight, Node currentNode, int turn, int globalTurn, String currentSeason, int years) {
+    public void renderDebugInfo(float debugDisplayX, float debugDisplayY, float debugDisplayWidth, float debugDisplayHeight, Node currentNode, int turn, int globalTurn, String currentSeason, int years, FrameProfiler profiler) {
         shapeRenderer.setProjectionMatrix(uiCamera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         shapeRenderer.setColor(Color.BLACK);
@@ -555,10 +561,43 @@ public class Renderer {
         font.draw(batch, ownedBy, debugDisplayX + 10, debugDisplayY + debugDisplayHeight - 240);
         font.draw(batch, result, debugDisplayX + 10, debugDisplayY + debugDisplayHeight - 280);
 
+        renderProfiler(profiler, debugDisplayX + 420, debugDisplayY + debugDisplayHeight - 10);
 
         batch.end();
     }
 
+    // Second column of the debug window: frame time percentiles, GL counters and CPU time per phase
+    private void renderProfiler(FrameProfiler profiler, float x, float y) {
+        font.draw(batch, "Frame ms  p50 " + round(profiler.getFramePercentile(0.5f))
+            + "  p95 " + round(profiler.getFramePercentile(0.95f))
+            + "  p99 " + round(profiler.getFramePercentile(0.99f))
+            + "  max " + round(profiler.getFramePercentile(1f)), x, y);
+        font.draw(batch, "Draw calls: " + profiler.getDrawCalls()
+            + " | Texture binds: " + profiler.getTextureBindings()
+            + " | Shader switches: " + profiler.getShaderSwitches(), x, y - 20);
+
+        AllocationTracker allocations = profiler.getAllocations();
+        font.draw(batch, "Allocated KB/frame: " + kilobytes(allocations.getFrameBytes())
+            + " (avg " + kilobytes(allocations.getAverageFrameBytes()) + ")"
+            + " | GC: " + allocations.getTotalGcCount() + " pauses, " + allocations.getTotalGcMillis() + " ms", x, y - 40);
+
+        font.draw(batch, "CPU ms (avg / max) | KB/frame (avg)", x, y - 70);
+        float lineY = y - 90;
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            font.draw(batch, phase.getLabel() + ": " + round(profiler.getPhaseAverage(phase)) + " / " + round(profiler.getPhaseMax(phase))
+                + " | " + kilobytes(allocations.getAveragePhaseBytes(phase)), x, lineY);
+            lineY -= 20;
+        }
+    }
+
+    private static float round(float millis) {
+        return Math.round(millis * 100) / 100f;
+    }
+
+    private static float kilobytes(long bytes) {
+        return Math.round(bytes / 102.4f) / 10f;
+    }
+
     public void renderDebugTravelLine(Player targetPlayer) {
         shapeRenderer.setProjectionMatrix(camera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
@@ -623,46 +662,14 @@ public class Renderer {
 
         shapeRenderer.setColor(Color.valueOf("FFFCF2"));
 
-        GlyphLayout layout = new GlyphLayout();
         float padding = 10f;
         float lineSpacing = 5f;
 
-        Array<String> lines = new Array<>();
-        if (node.task != null) {
-            if (node.task.isChanceSquare()){
-                lines.add(node.task.getName());
-            }
-            else {
-                lines.add(node.task.getName());
-                lines.add("Category: " + node.task.getCategory());
-                String description = node.task.getDescription()
-                    .replace("{m}", node.task.getResourceAmountString("Money"))
-                    .replace("{p}", node.task.getResourceAmountString("People"));
-
-                String[] words = description.split(" ");
-                StringBuilder currentLine = new StringBuilder();
-
-                for (String word : words) {
-                    if (currentLine.length() + word.length() + 1 > 50) {
-                        lines.add(currentLine.toString().trim());
-                        currentLine = new StringBuilder();
-                    }
-                    currentLine.append(word).append(" ");
-                }
-
-                if (currentLine.length() > 0) {
-                    lines.add(currentLine.toString().trim());
-                }
-            }
-
-        } else if (node.isJobCentre) {
-            lines.add("Makers Centre");
-        }
-
+        Array<String> lines = getPopUpLines(node);
 
         float maxTextWidth = 0f;
         for (String line : lines) {
-            layout.setText(font, line);
+            GlyphLayout layout = layouts.layout(font, line);
             if (layout.width > maxTextWidth) {
                 maxTextWidth = layout.width;
             }
@@ -671,7 +678,7 @@ public class Renderer {
         float rectWidth = maxTextWidth + padding * 2;
         float rectHeight = lines.size * font.getLineHeight() + (lines.size - 1) * lineSpacing + padding * 2;
 
-        Vector3 screenCoords = camera.project(new Vector3(node.x, node.y, 0));
+        Vector3 screenCoords = camera.project(popUpPosition.set(node.x, node.y, 0));
 
         float rectX = screenCoords.x - rectWidth / 2;
         float rectY = screenCoords.y + node.size + 5;
@@ -684,12 +691,50 @@ public class Renderer {
 
         float textY = rectY + rectHeight - padding;
         for (String line : lines) {
-            font.draw(batch, line, rectX + padding, textY);
+            font.draw(batch, layouts.layout(font, line), rectX + padding, textY);
             textY -= font.getLineHeight() + lineSpacing;
         }
         batch.end();
     }
 
+    private Array<String> getPopUpLines(Node node) {
+        String description = null;
+        if (node.task != null && !node.task.isChanceSquare()) {
+            description = node.task.getExpandedDescription();
+        }
+        if (node == popUpNode && Objects.equals(description, popUpDescription)) {
+            return popUpLines;
+        }
+        popUpNode = node;
+        popUpDescription = description;
+        popUpLines.clear();
+
+        if (node.task != null) {
+            popUpLines.add(node.task.getName());
+            if (description != null) {
+                popUpLines.add("Category: " + node.task.getCategory());
+
+                String[] words = description.split(" ");
+                StringBuilder currentLine = new StringBuilder();
+
+                for (String word : words) {
+                    if (currentLine.length() + word.length() + 1 > 50) {
+                        popUpLines.add(currentLine.toString().trim());
+                        currentLine.setLength(0);
+                    }
+                    currentLine.append(word).append(" ");
+                }
+
+                if (currentLine.length() > 0) {
+                    popUpLines.add(currentLine.toString().trim());
+                }
+            }
+        } else if (node.isJobCentre) {
+            popUpLines.add("Makers Centre");
+        }
+        return popUpLines;
+    }
+
     public void renderCurrentNodeBox(Node node, float boxWidth, float boxHeight, float padding, float tileSize, float rightSidePadding, float centerX, float centerY) {
         shapeRenderer.setProjectionMatrix(uiCamera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
@@ -730,11 +775,11 @@ public class Renderer {
         batch.begin();
         font.setColor(Color.WHITE);
         String infoText = "Node ID: " + node.id;
-        GlyphLayout layout = new GlyphLayout(font, infoText);
+        GlyphLayout layout = layouts.layout(font, infoText);
 
         float textX = centerX - layout.width / 2;
         float textY = padding + boxHeight - 20;
-        font.draw(batch, infoText, textX, textY);
+        font.draw(batch, layout, textX, textY);
         batch.end();
     }
 
@@ -750,6 +795,10 @@ public class Renderer {
         shapeRenderer.dispose();
         batch.dispose();
         font.dispose();
+        stage.dispose();
+        skin.dispose();
+        UiAtlas.getInstance().release(MAKERS_CENTER_PATH);
+        UiAtlas.getInstance().release(ACTIVE_TASK_PATH);
     }
 
     public void renderMakersAlert(){
@@ -758,11 +807,11 @@ public class Renderer {
         font.setColor(Color.GOLD);
 
         String alert = "Makers Center has produced more resources \n Return to collect";
-        GlyphLayout layout = new GlyphLayout(font, alert);
+        GlyphLayout layout = layouts.layout(font, alert);
         float x = (Gdx.graphics.getWidth() - layout.width) / 2;
         float y = (Gdx.graphics.getHeight() + layout.height) / 2;
 
-        font.draw(batch, alert, x, y + 200);
+        font.draw(batch, layout, x, y + 200);
         font.getData().setScale(1f*GameState.getInstance().textScale); // Reset font size
         batch.end();
     }
@@ -772,11 +821,11 @@ public class Renderer {
         font.getData().setScale(4f);
         font.setColor(Color.GOLD);
 
-        GlyphLayout layout = new GlyphLayout(font, weatherAlertText);
+        GlyphLayout layout = layouts.layout(font, weatherAlertText);
         float x = (Gdx.graphics.getWidth() - layout.width) / 2;
         float y = (Gdx.graphics.getHeight() + layout.height) / 2;
 
-        font.draw(batch, weatherAlertText, x, y + 200);
+        font.draw(batch, layout, x, y + 200);
         font.getData().setScale(1f*GameState.getInstance().textScale); // Reset font size
         batch.end();
     }
@@ -196,6 +196,26 @@ public class Settings implements Screen {
             }
         });
 
+        TextButton renderOnDemand = new TextButton("Power Saving", skin);
+        if(!GameState.getInstance().isRenderOnDemand()){
+            // button colour
+            renderOnDemand.setColor(Color.RED); // Changes button color
+        }else{
+            renderOnDemand.setColor(Color.GREEN);
+        }
+        renderOnDemand.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) {
+                GameState.getInstance().setRenderOnDemand();
+
+                if(!GameState.getInstance().isRenderOnDemand()){
+                    renderOnDemand.setColor(Color.RED); // Changes button color
+                }else{
+                    renderOnDemand.setColor(Color.GREEN);
+                }
+            }
+        });
+
         // Save Button
         TextButton saveButton = new TextButton("Save", skin);
         saveButton.addListener(new ChangeListener() {
@@ -235,6 +255,7 @@ public class Settings implements Screen {
                 @Override
                 public void changed(ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) {
                     ((Game) Gdx.app.getApplicationListener()).setScreen(new GameEndScreen(false));
+                    previousScreen.dispose(); // the match is over, so the board it came from is done with
                 }
             });
 
@@ -270,6 +291,7 @@ public class Settings implements Screen {
         table.add(removeWeatherEffects).width(300).pad(10);
         table.row();
         table.add(stopTutorial).width(300).pad(10);
+        table.add(renderOnDemand).width(300).pad(10);
         table.row();
         table.add(info);
         table.row();
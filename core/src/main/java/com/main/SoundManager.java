@@ -14,6 +14,7 @@ public class SoundManager {
 
     private final Map<String, Sound> sounds = new HashMap<>();
     private final Map<String, Music> musicTracks = new HashMap<>();
+    private final Map<String, String> loadedPaths = new HashMap<>(); // key -> file held through the AssetRegistry
     private final Map<String, Boolean> musicTrackStatus = new HashMap<>(); // Track status per track
     private final Map<String, Boolean> soundTrackStatus = new HashMap<>(); // Track status per track
 
@@ -33,11 +34,11 @@ public class SoundManager {
         return instance;
     }
 
-    // Load and store a sound effect
+    // Load and store a sound effect; instant when the loading screen has already decoded it
     public void loadSound(String key, String filePath) {
-        FileHandle file = Gdx.files.internal(filePath);
-        if (!sounds.containsKey(key)) {
-            sounds.put(key, Gdx.audio.newSound(file));
+        if (!sounds.containsKey(key) && exists(filePath)) {
+            sounds.put(key, AssetRegistry.getInstance().acquire(filePath, Sound.class));
+            loadedPaths.put(key, filePath);
             musicTrackStatus.put(key, false); // Initialize the track as not playing
 
         }
@@ -77,9 +78,9 @@ public class SoundManager {
 
     // Load and store a music track
     public void loadMusic(String key, String filePath) {
-        FileHandle file = Gdx.files.internal(filePath);
-        if (!musicTracks.containsKey(key)) {
-            Music music = Gdx.audio.newMusic(file);
+        if (!musicTracks.containsKey(key) && exists(filePath)) {
+            Music music = AssetRegistry.getInstance().acquire(filePath, Music.class);
+            loadedPaths.put(key, filePath);
             music.setVolume(musicVolume);
             musicTracks.put(key, music);
             musicTrackStatus.put(key, false); // Initialize the track as not playing
@@ -141,16 +142,23 @@ public class SoundManager {
         return musicTrackStatus.getOrDefault(key, false); // Return false if the track doesn't exist
     }
 
-    // Dispose of all sounds and music
-    public void dispose() {
-        for (Sound sound : sounds.values()) {
-            sound.dispose();
+    // A missing clip is skipped rather than failing the whole game; playing it is then a no-op
+    private boolean exists(String filePath) {
+        FileHandle file = Gdx.files.internal(filePath);
+        if (!file.exists()) {
+            Gdx.app.error("SoundManager", "Missing audio file " + filePath);
+            return false;
         }
-        sounds.clear();
+        return true;
+    }
 
-        for (Music music : musicTracks.values()) {
-            music.dispose();
+    // Release all sounds and music
+    public void dispose() {
+        for (String path : loadedPaths.values()) {
+            AssetRegistry.getInstance().release(path);
         }
+        loadedPaths.clear();
+        sounds.clear();
         musicTracks.clear();
     }
 }
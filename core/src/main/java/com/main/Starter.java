@@ -29,4 +29,10 @@ public class Starter extends Game {
     public void resume() {
         super.resume();
     }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        AssetRegistry.getInstance().dispose();
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class Task {
@@ -15,6 +16,7 @@ public class Task {
     private final int time;
     private boolean taken = false;
     private Player owner;
+    private Player holder; // the player whose current task list holds this task, kept by Player
     private final String category;
     private boolean selected = false;
     private boolean active = false;
@@ -22,6 +24,12 @@ public class Task {
     private boolean hasBeenOpened = false;
     private int remainingTurns; // Turns left to complete the task
     private double remainingMoneyCost; // Remaining money cost to be paid
+    private final DescriptionTemplate descriptionTemplate;
+    private final Resource money; // null when the task has no such resource
+    private final Resource people;
+    private String expandedDescription; // last expansion, reused while both amounts are unchanged
+    private double expandedMoney;
+    private double expandedPeople;
 
     @JsonCreator
     public Task(
@@ -42,9 +50,28 @@ public class Task {
         this.isChanceSquare = isChanceSquare;
         this.remainingTurns = time;
         this.remainingMoneyCost = getResourceAmount("Money"); // Initialize the remaining money
+        this.descriptionTemplate = DescriptionTemplate.compile(description);
+        this.money = findResource("Money");
+        this.people = findResource("People");
     }
 
 
+    /** Returns a fresh, untouched copy of this task as it was loaded from the catalog. */
+    public Task copy() {
+        List<Resource> resourceCopies = new ArrayList<>();
+        for (Resource resource : resources) {
+            resourceCopies.add(new Resource(resource.getType(), resource.getAmount()));
+        }
+        List<Task> stepCopies = null;
+        if (steps != null) {
+            stepCopies = new ArrayList<>();
+            for (Task step : steps) {
+                stepCopies.add(step.copy());
+            }
+        }
+        return new Task(name, description, resourceCopies, stepCopies, time, category, isChanceSquare);
+    }
+
     // Add a method to get the amount of a specific resource
     public double getResourceAmount(String type) {
         for (Resource resource : resources) {
@@ -80,6 +107,16 @@ public class Task {
         return owner;
     }
 
+    /** The player currently holding this task in their task list, or null once it is archived or unclaimed. */
+    @JsonIgnore
+    public Player getHolder() {
+        return holder;
+    }
+
+    void setHolder(Player holder) {
+        this.holder = holder;
+    }
+
     public String getName() {
         return name;
     }
@@ -110,6 +147,36 @@ public class Task {
         return steps;
     }
 
+    /** The description with {m} and {p} filled in, expanded again only when either amount changes. */
+    @JsonIgnore
+    public String getExpandedDescription() {
+        double moneyAmount = money != null ? money.getAmount() : 0;
+        double peopleAmount = people != null ? people.getAmount() : 0;
+        if (expandedDescription == null || moneyAmount != expandedMoney || peopleAmount != expandedPeople) {
+            expandedDescription = descriptionTemplate.expand(amountString(money), amountString(people));
+            expandedMoney = moneyAmount;
+            expandedPeople = peopleAmount;
+        }
+        return expandedDescription;
+    }
+
+    private Resource findResource(String type) {
+        if (resources == null) {
+            return null;
+        }
+        for (Resource resource : resources) {
+            if (resource.getType().equals(type)) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
+    // Same text getResourceAmountString gives, "0" when the resource is missing
+    private static String amountString(Resource resource) {
+        return resource != null ? String.valueOf(resource.getAmount()) : String.valueOf(0);
+    }
+
     public String getResourceAmountString(String type) {
         for (Resource resource : resources) {
             if (resource.getType().equals(type)) {
@@ -63,9 +63,7 @@ public class TaskSelectionScreen implements Screen {
         mainTable.add(taskNameLabel).left().width(400).row(); // Set a fixed width for the title
 
         // Add the task description (white)
-        String description = task.getDescription()
-            .replace("{m}", task.getResourceAmountString("Money"))
-            .replace("{p}", task.getResourceAmountString("People"));
+        String description = task.getExpandedDescription();
         Label descriptionLabel = new Label(description, new Label.LabelStyle(font, Color.WHITE));
         descriptionLabel.setAlignment(Align.left);
         descriptionLabel.setWrap(true); // Enable wrapping for the description
@@ -0,0 +1,119 @@
+package com.main;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pools;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the GlyphLayout of recently drawn strings so UI text that stays the same from frame to
+ * frame is laid out once and drawn from the cached layout. Layouts are keyed by font, scale,
+ * colour, wrap width, alignment and text; a hit allocates nothing. The least recently used
+ * layouts are returned to a pool once the cache is full, so changing text does not grow it.
+ */
+public class TextLayoutCache {
+    private final int capacity;
+    private final Pool<GlyphLayout> pool = Pools.get(GlyphLayout.class);
+    private final Key probe = new Key();
+    private final LinkedHashMap<Key, GlyphLayout> layouts;
+
+    public TextLayoutCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The layout cache needs room for at least one layout.");
+        }
+        this.capacity = capacity;
+        this.layouts = new LinkedHashMap<Key, GlyphLayout>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, GlyphLayout> eldest) {
+                if (size() > TextLayoutCache.this.capacity) {
+                    pool.free(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /** Lays out a single unwrapped line (or lines split on \n) with the font's current scale and colour. */
+    public GlyphLayout layout(BitmapFont font, String text) {
+        return layout(font, text, 0, Align.left, false);
+    }
+
+    /** Lays out text with the font's current scale and colour, wrapping to targetWidth if asked. */
+    public GlyphLayout layout(BitmapFont font, String text, float targetWidth, int halign, boolean wrap) {
+        Color colour = font.getColor();
+        probe.set(font, font.getData().scaleX, font.getData().scaleY, Color.rgba8888(colour), targetWidth, halign, wrap, text);
+
+        GlyphLayout layout = layouts.get(probe);
+        if (layout == null) {
+            layout = pool.obtain();
+            layout.setText(font, text, colour, targetWidth, halign, wrap);
+            layouts.put(probe.copy(), layout);
+        }
+        return layout;
+    }
+
+    public void clear() {
+        for (GlyphLayout layout : layouts.values()) {
+            pool.free(layout);
+        }
+        layouts.clear();
+    }
+
+    private static final class Key {
+        BitmapFont font;
+        float scaleX, scaleY;
+        int colour;
+        float targetWidth;
+        int halign;
+        boolean wrap;
+        String text;
+        int hash;
+
+        void set(BitmapFont font, float scaleX, float scaleY, int colour, float targetWidth, int halign, boolean wrap, String text) {
+            this.font = font;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.colour = colour;
+            this.targetWidth = targetWidth;
+            this.halign = halign;
+            this.wrap = wrap;
+            this.text = text;
+
+            int h = System.identityHashCode(font);
+            h = 31 * h + Float.floatToIntBits(scaleX);
+            h = 31 * h + Float.floatToIntBits(scaleY);
+            h = 31 * h + colour;
+            h = 31 * h + Float.floatToIntBits(targetWidth);
+            h = 31 * h + halign;
+            h = 31 * h + (wrap ? 1 : 0);
+            this.hash = 31 * h + text.hashCode();
+        }
+
+        Key copy() {
+            Key key = new Key();
+            key.set(font, scaleX, scaleY, colour, targetWidth, halign, wrap, text);
+            return key;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return font == key.font && scaleX == key.scaleX && scaleY == key.scaleY && colour == key.colour
+                && targetWidth == key.targetWidth && halign == key.halign && wrap == key.wrap && text.equals(key.text);
+        }
+    }
+}
@@ -2,114 +2,86 @@ package com.main;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Drifting clouds over the board, with rain falling from each one during thunderstorms. The clouds
+ * and their drops live in fixed-size storage that is reset, not appended to, when the weather
+ * changes, so the effect costs the same however many times the weather flips in a session.
+ */
 public class ThunderstormEffect {
-    private Texture cloudTexture;
-    private Texture rainTexture;
-    private List<Cloud> clouds;
-    private List<RainParticle> rainParticles;
+    private static final String CLOUD_PATH = "ui/cloud.png";
+    private static final String RAIN_PATH = "ui/rain.png";
+    private static final int MAX_CLOUDS = 10;
+    private static final int DROPS_PER_CLOUD = 30;
+
+    private TextureRegion cloudTexture;
+    private TextureRegion rainTexture;
+    private final Cloud[] clouds = new Cloud[MAX_CLOUDS];
+    private int cloudCount;
+    // Cloud k's drops are the contiguous range [k * DROPS_PER_CLOUD, (k + 1) * DROPS_PER_CLOUD)
+    private final ParticleField drops = new ParticleField(MAX_CLOUDS * DROPS_PER_CLOUD);
+    private final ParticleField.Respawner dropRespawner = this::respawnDrop;
     private float cloudWidth, cloudHeight;
     private OrthographicCamera camera;
     private String currentWeather;
     private float boardMinX, boardMaxX, boardMinY, boardMaxY;
 
-    private class Cloud {
+    private static class Cloud {
         float x, y, scaleX, scaleY, driftX, driftY;
-
-        Cloud(float x, float y, float scaleX, float scaleY, float driftX, float driftY) {
-            this.x = x;
-            this.y = y;
-            this.scaleX = scaleX;
-            this.scaleY = scaleY;
-            this.driftX = driftX;
-            this.driftY = driftY;
-        }
-    }
-
-    private class RainParticle {
-        Vector2 position;
-        float speed;
-        Color colour;
-        Cloud parentCloud;
-        Vector2 offset;
-        Vector2 lastCloudPos;
-
-        RainParticle(Cloud cloud, float offsetX, float offsetY, float speed, Color colour) {
-            this.parentCloud = cloud;
-            this.offset = new Vector2(offsetX, offsetY);
-            this.speed = speed;
-            this.colour = colour;
-            this.lastCloudPos = new Vector2(cloud.x, cloud.y);
-            this.position = new Vector2(cloud.x + offsetX, cloud.y + offsetY);
-        }
-
-        void update(float delta) {
-            float dx = parentCloud.x - lastCloudPos.x;
-            float dy = parentCloud.y - lastCloudPos.y;
-            position.add(dx, dy);
-            position.y -= speed * delta;
-            lastCloudPos.set(parentCloud.x, parentCloud.y);
-
-            if (position.y < boardMinY) {
-                offset.x = MathUtils.random(0, cloudWidth * parentCloud.scaleX);
-                offset.y = MathUtils.random(-cloudHeight * parentCloud.scaleY, 0);
-                position.set(parentCloud.x + offset.x, parentCloud.y + offset.y);
-                speed = MathUtils.random(100, 300);
-            }
-        }
-
-        void draw(SpriteBatch batch) {
-            batch.setColor(colour);
-            batch.draw(rainTexture, position.x, position.y, 2, 10);
-            batch.setColor(Color.WHITE);
-        }
+        float previousX, previousY; // position before the last update, for drawing between steps
     }
 
     public ThunderstormEffect(OrthographicCamera camera, String currentWeather, List<Node> nodes) {
         this.camera = camera;
         this.currentWeather = currentWeather;
-        cloudTexture = new Texture("ui/cloud.png");
-        rainTexture = new Texture("ui/rain.png");
-        cloudWidth = cloudTexture.getWidth();
-        cloudHeight = cloudTexture.getHeight();
-        clouds = new ArrayList<>();
-        rainParticles = new ArrayList<>();
+        cloudTexture = UiAtlas.getInstance().acquire(CLOUD_PATH);
+        rainTexture = UiAtlas.getInstance().acquire(RAIN_PATH);
+        cloudWidth = cloudTexture.getRegionWidth();
+        cloudHeight = cloudTexture.getRegionHeight();
+        for (int i = 0; i < MAX_CLOUDS; i++) {
+            clouds[i] = new Cloud();
+        }
         updateBoardBounds(nodes);
         initialiseClouds();
     }
 
     private void initialiseClouds() {
-        int numClouds = getCloudCountBasedOnWeather();
-        clouds.clear();
-
-        for (int i = 0; i < numClouds; i++) {
-            float randomScaleX = MathUtils.random(0.7f, 1.2f);
-            float randomScaleY = MathUtils.random(0.7f, 1.2f);
-            float xPosition = MathUtils.random(boardMinX, boardMaxX + 100 - cloudWidth * randomScaleX);
-            float yPosition = MathUtils.random(boardMinY, boardMaxY + 100 - cloudHeight * randomScaleY);
-            yPosition = MathUtils.clamp(yPosition, boardMinY, boardMaxY - cloudHeight * randomScaleY);
-            float driftX = MathUtils.random(-2f, 2f);
-            float driftY = MathUtils.random(-1f, 1f);
-
-            Cloud cloud = new Cloud(xPosition, yPosition, randomScaleX, randomScaleY, driftX, driftY);
-            clouds.add(cloud);
-
-            for (int j = 0; j < 30; j++) {
+        cloudCount = Math.min(getCloudCountBasedOnWeather(), MAX_CLOUDS);
+        drops.clear();
+
+        for (int i = 0; i < cloudCount; i++) {
+            Cloud cloud = clouds[i];
+            cloud.scaleX = MathUtils.random(0.7f, 1.2f);
+            cloud.scaleY = MathUtils.random(0.7f, 1.2f);
+            cloud.x = MathUtils.random(boardMinX, boardMaxX + 100 - cloudWidth * cloud.scaleX);
+            float yPosition = MathUtils.random(boardMinY, boardMaxY + 100 - cloudHeight * cloud.scaleY);
+            cloud.y = MathUtils.clamp(yPosition, boardMinY, boardMaxY - cloudHeight * cloud.scaleY);
+            cloud.driftX = MathUtils.random(-2f, 2f);
+            cloud.driftY = MathUtils.random(-1f, 1f);
+            cloud.previousX = cloud.x;
+            cloud.previousY = cloud.y;
+
+            for (int j = 0; j < DROPS_PER_CLOUD; j++) {
                 float offsetX = MathUtils.random(0, cloudWidth * cloud.scaleX);
                 float offsetY = MathUtils.random(0, cloudHeight * cloud.scaleY);
-                rainParticles.add(new RainParticle(cloud, offsetX, offsetY, MathUtils.random(100, 300), Color.CYAN));
+                drops.add(cloud.x + offsetX, cloud.y + offsetY, MathUtils.random(100, 300));
             }
         }
     }
 
+    // A drop that reached the bottom of the storm starts again somewhere under its own cloud
+    private void respawnDrop(ParticleField field, int index) {
+        Cloud cloud = clouds[index / DROPS_PER_CLOUD];
+        float offsetX = MathUtils.random(0, cloudWidth * cloud.scaleX);
+        float offsetY = MathUtils.random(-cloudHeight * cloud.scaleY, 0);
+        field.set(index, cloud.x + offsetX, cloud.y + offsetY, MathUtils.random(100, 300));
+    }
+
     private int getCloudCountBasedOnWeather() {
         switch (currentWeather) {
             case "Thunderstorms":
@@ -129,37 +101,51 @@ public class ThunderstormEffect {
             initialiseClouds();
         }
 
-        for (Cloud cloud : clouds) {
+        for (int i = 0; i < cloudCount; i++) {
+            Cloud cloud = clouds[i];
+            float startX = cloud.x;
+            float startY = cloud.y;
             cloud.x += cloud.driftX * delta;
             cloud.y += cloud.driftY * delta;
+            cloud.previousX = startX;
+            cloud.previousY = startY;
 
+            float movedX = cloud.x;
+            float movedY = cloud.y;
             if (cloud.x > boardMaxX) cloud.x = boardMinX - cloudWidth * cloud.scaleX;
             if (cloud.x < boardMinX - cloudWidth * cloud.scaleX) cloud.x = boardMaxX;
             if (cloud.y > boardMaxY) cloud.y = boardMinY - cloudHeight * cloud.scaleY;
             if (cloud.y < boardMinY - cloudHeight * cloud.scaleY) cloud.y = boardMaxY;
-        }
+            if (cloud.x != movedX || cloud.y != movedY) {
+                // Wrapped round to the other side; jump there instead of sweeping across the board
+                cloud.previousX = cloud.x;
+                cloud.previousY = cloud.y;
+            }
 
-        for (RainParticle rain : rainParticles) {
-            rain.update(delta);
+            // The cloud's rain moves with it
+            drops.translate(i * DROPS_PER_CLOUD, (i + 1) * DROPS_PER_CLOUD, cloud.x - startX, cloud.y - startY);
         }
+
+        drops.update(delta, boardMinY, dropRespawner);
     }
 
-    public void render(SpriteBatch batch, float zoom) {
+    /** Draws the effect alpha of the way (0 to 1) between the previous update and the last one. */
+    public void render(SpriteBatch batch, float zoom, float alpha) {
         batch.setProjectionMatrix(camera.combined);
 
         if ("Thunderstorms".equals(currentWeather)) {
-            for (RainParticle rain : rainParticles) {
-                rain.draw(batch);
-            }
+            drops.draw(batch, rainTexture, 2, 10, Color.CYAN, alpha);
         }
 
         if (zoom >= 0.3) {
             float cloudAlpha = "Thunderstorms".equals(currentWeather) ? 0.8f : 0.6f;
             batch.setColor(1f, 1f, 1f, cloudAlpha);
 
-            for (Cloud cloud : clouds) {
-                TextureRegion cloudRegion = new TextureRegion(cloudTexture);
-                batch.draw(cloudRegion, cloud.x, cloud.y, cloudWidth / 2, cloudHeight / 2, cloudWidth, cloudHeight,
+            for (int i = 0; i < cloudCount; i++) {
+                Cloud cloud = clouds[i];
+                float x = MathUtils.lerp(cloud.previousX, cloud.x, alpha);
+                float y = MathUtils.lerp(cloud.previousY, cloud.y, alpha);
+                batch.draw(cloudTexture, x, y, cloudWidth / 2, cloudHeight / 2, cloudWidth, cloudHeight,
                     cloud.scaleX, cloud.scaleY, 0);
             }
 
@@ -186,10 +172,12 @@ public class ThunderstormEffect {
 
     public void dispose() {
         if (cloudTexture != null) {
-            cloudTexture.dispose();
+            UiAtlas.getInstance().release(CLOUD_PATH);
+            cloudTexture = null;
         }
         if (rainTexture != null) {
-            rainTexture.dispose();
+            UiAtlas.getInstance().release(RAIN_PATH);
+            rainTexture = null;
         }
     }
 }
@@ -8,12 +8,12 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.main.tooltips.TooltipDynamic;
 import com.main.tooltips.TooltipPosition;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 public class Tooltip {
     private static Tooltip instance;
@@ -23,7 +23,8 @@ public class Tooltip {
     private boolean visible = true;
     private Texture whiteTexture;
     private boolean tutorialMode = false;
-    String displayText = "";
+    private final TextLayoutCache layouts = new TextLayoutCache(32);
+    private final float[] lastYPositions = new float[TooltipPosition.values().length];
 
 
     private Tooltip() {
@@ -68,23 +69,23 @@ public class Tooltip {
     }
 
     public void addTooltip(String location, String id, String text, TooltipPosition position, boolean clear, boolean highlight) {
-        tooltips.add(new TooltipEntry(location, id, text, null, position, clear, highlight, TooltipDynamic.DEFAULT));
+        tooltips.add(new TooltipEntry(location, id, text, null, null, position, clear, highlight, TooltipDynamic.DEFAULT));
     }
 
     public void addTooltip(String location, String id, String text, TooltipPosition position, boolean clear, boolean highlight, TooltipDynamic dynamicType) {
-        tooltips.add(new TooltipEntry(location, id, text, null, position, clear, highlight, dynamicType));
+        tooltips.add(new TooltipEntry(location, id, text, null, null, position, clear, highlight, dynamicType));
     }
 
     // Add tooltip with text, image, and position
     public void addTooltip(String location, String id, String text, String imagePath, TooltipPosition position) {
-        Texture image = new Texture(Gdx.files.internal(imagePath));
-        tooltips.add(new TooltipEntry(location, id, text, image, position, true, false, TooltipDynamic.DEFAULT));
+        TextureRegion image = UiAtlas.getInstance().acquire(imagePath);
+        tooltips.add(new TooltipEntry(location, id, text, image, imagePath, position, true, false, TooltipDynamic.DEFAULT));
     }
 
     // Add tooltip with text, image, position, clear and highlight
     public void addTooltip(String location, String id, String text, String imagePath, TooltipPosition position, boolean clear, boolean highlight) {
-        Texture image = new Texture(Gdx.files.internal(imagePath));
-        tooltips.add(new TooltipEntry(location, id, text, image, position, clear, highlight, TooltipDynamic.DEFAULT));
+        TextureRegion image = UiAtlas.getInstance().acquire(imagePath);
+        tooltips.add(new TooltipEntry(location, id, text, image, imagePath, position, clear, highlight, TooltipDynamic.DEFAULT));
     }
 
     public void clear() {
@@ -101,6 +102,9 @@ public class Tooltip {
         for(TooltipEntry entry : tooltips) {
             if (entry.clear && entry.id.equals(id)) {
                 tooltips.removeValue(entry, true);
+                if (entry.imagePath != null) {
+                    UiAtlas.getInstance().release(entry.imagePath);
+                }
             }
         }
     }
@@ -113,10 +117,47 @@ public class Tooltip {
         }
     }
 
+    // Drops the tooltips of a finished match, giving back every key image they held
     public static void resetInstance() {
+        if (instance != null) {
+            for (TooltipEntry entry : instance.tooltips) {
+                if (entry.imagePath != null) {
+                    UiAtlas.getInstance().release(entry.imagePath);
+                }
+            }
+            instance.tooltips.clear();
+        }
         instance = null;
     }
 
+    // Rebuilt only when the page or the entry's text changes, so a tutorial page shown for many frames builds one string
+    private static String pageNumberText(TooltipEntry entry) {
+        int page = TutorialManager.getInstance().getCurrentPage();
+        int maxPage = TutorialManager.getInstance().getMaxPage();
+        if (entry.displayText == null || page != entry.displayPage || maxPage != entry.displayMaxPage
+            || !entry.text.equals(entry.displayTemplate)) {
+            entry.displayTemplate = entry.text;
+            entry.displayPage = page;
+            entry.displayMaxPage = maxPage;
+            entry.displayText = fillPlaceholder(fillPlaceholder(entry.text, page), maxPage);
+        }
+        return entry.displayText;
+    }
+
+    // Replaces the first {} in text with the value, or returns text unchanged if it has none
+    private static String fillPlaceholder(String text, int value) {
+        int index = text.indexOf("{}");
+        if (index < 0) {
+            return text;
+        }
+        return text.substring(0, index) + value + text.substring(index + 2);
+    }
+
+    private float lastY(TooltipPosition position, float defaultY) {
+        float y = lastYPositions[position.ordinal()];
+        return Float.isNaN(y) ? defaultY : y;
+    }
+
     public void render(Camera uiCamera, float screenWidth, float screenHeight) {
         if (tooltips.isEmpty()) return;
 
@@ -125,31 +166,25 @@ public class Tooltip {
         batch.setProjectionMatrix(uiCamera.combined);
         batch.begin();
 
-        // Store last used Y positions for each TooltipPosition
-        Map<TooltipPosition, Float> lastYPositions = new HashMap<>();
+        // Last used Y position for each TooltipPosition, NaN until a tooltip is placed there
+        Arrays.fill(lastYPositions, Float.NaN);
+
+        String currentScreen = GameState.getInstance().getCurrentScreen();
 
         for (TooltipEntry entry : tooltips) {
-            if (tutorialMode && (!entry.id.equals("tut") && !entry.id.equals("tut mp"))) continue;
-            if (!tutorialMode && (entry.id.equals("tut") || entry.id.equals("tut mp"))) continue;
-            if (!tutorialMode && GameState.getInstance().getCurrentScreen().equals("MS") && !(entry.location.equals("MS") || entry.location.equals("A"))) continue;
-            if (!tutorialMode && GameState.getInstance().getCurrentScreen().equals("MC") && !(entry.location.equals("MC") || entry.location.equals("A") || entry.location.equals("AMC"))) continue;
-            if (!tutorialMode && GameState.getInstance().getCurrentScreen().equals("MCZ") && !(entry.location.equals("A") || entry.location.equals("AMC"))) continue;
-            if (!tutorialMode && GameState.getInstance().getCurrentScreen().equals("PTS") && !(entry.id.equals("EMC"))) continue;
+            if (!isShown(entry.location, entry.id, tutorialMode, currentScreen)) continue;
 
 
             if (entry.visible) {
                 // Apply text scaling
                 font.getData().setScale(scale);
 
+                String displayText = entry.text;
                 if (entry.dynamicType == TooltipDynamic.PAGENUMBERT) {
-                    displayText = entry.text
-                        .replaceFirst("\\{}", String.valueOf(TutorialManager.getInstance().getCurrentPage()))
-                        .replaceFirst("\\{}", String.valueOf(TutorialManager.getInstance().getMaxPage()));
-                } else {
-                    displayText = entry.text;
+                    displayText = pageNumberText(entry);
                 }
 
-                GlyphLayout layout = new GlyphLayout(font, displayText);
+                GlyphLayout layout = layouts.layout(font, displayText);
                 float textWidth = layout.width;
                 float textHeight = layout.height;
 
@@ -163,19 +198,19 @@ public class Tooltip {
                         break;
                     case BOTTOM_RIGHT:
                         x = screenWidth - 50 - textWidth;
-                        y = lastYPositions.getOrDefault(TooltipPosition.BOTTOM_RIGHT, 40f);
+                        y = lastY(TooltipPosition.BOTTOM_RIGHT, 40f);
                         break;
                     case BOTTOM_LEFT:
                         x = 20;
-                        y = lastYPositions.getOrDefault(TooltipPosition.BOTTOM_LEFT, 40f);
+                        y = lastY(TooltipPosition.BOTTOM_LEFT, 40f);
                         break;
                     case TOP_LEFT:
                         x = 20;
-                        y = lastYPositions.getOrDefault(TooltipPosition.TOP_LEFT, screenHeight - 20);
+                        y = lastY(TooltipPosition.TOP_LEFT, screenHeight - 20);
                         break;
                     case TOP_RIGHT:
                         x = screenWidth - 20 - textWidth;
-                        y = lastYPositions.getOrDefault(TooltipPosition.TOP_RIGHT, screenHeight - 20);
+                        y = lastY(TooltipPosition.TOP_RIGHT, screenHeight - 20);
                         break;
                     case CENTER:
                         x = screenWidth / 2 - textWidth / 2;
@@ -195,13 +230,13 @@ public class Tooltip {
                     batch.setColor(1, 1, 1, 1);
                 }
 
-                font.draw(batch, displayText, x, y);
+                font.draw(batch, layout, x, y);
 
                 if (entry.image != null) {
                     batch.draw(entry.image, x + textWidth, y - textHeight - 10, 32, 32);
                 }
 
-                lastYPositions.put(entry.position, y + textHeight + 20);
+                lastYPositions[entry.position.ordinal()] = y + textHeight + 20;
 
                 // Reset scale after drawing each tooltip (optional if font is reused elsewhere)
                 font.getData().setScale(1f);
@@ -212,6 +247,17 @@ public class Tooltip {
     }
 
 
+    // Decides whether a tooltip belongs on the current screen, before any visibility flag is checked
+    static boolean isShown(String location, String id, boolean tutorialMode, String currentScreen) {
+        if (tutorialMode && (!id.equals("tut") && !id.equals("tut mp"))) return false;
+        if (!tutorialMode && (id.equals("tut") || id.equals("tut mp"))) return false;
+        if (!tutorialMode && currentScreen.equals("MS") && !(location.equals("MS") || location.equals("A"))) return false;
+        if (!tutorialMode && currentScreen.equals("MC") && !(location.equals("MC") || location.equals("A") || location.equals("AMC"))) return false;
+        if (!tutorialMode && currentScreen.equals("MCZ") && !(location.equals("A") || location.equals("AMC"))) return false;
+        if (!tutorialMode && currentScreen.equals("PTS") && !(id.equals("EMC"))) return false;
+        return true;
+    }
+
     public void setVisible() {
         this.visible = !this.visible;
     }
@@ -226,18 +272,26 @@ public class Tooltip {
         String location; // A : ALL , MC : MAKERS CENTER , MS : main screen
         String id;
         String text;
-        Texture image;
+        TextureRegion image;
+        String imagePath; // held through UiAtlas while the entry exists
         TooltipPosition position;
         TooltipDynamic dynamicType;
         boolean clear;
         boolean highlight;
         boolean visible = true;
 
-        TooltipEntry(String location, String id, String text, Texture image, TooltipPosition position, Boolean clear, boolean highlight, TooltipDynamic dynamicType) {
+        // The last page-number text built from text, for PAGENUMBERT entries
+        String displayTemplate;
+        String displayText;
+        int displayPage;
+        int displayMaxPage;
+
+        TooltipEntry(String location, String id, String text, TextureRegion image, String imagePath, TooltipPosition position, Boolean clear, boolean highlight, TooltipDynamic dynamicType) {
             this.location = location;
             this.id = id;
             this.text = text;
             this.image = image;
+            this.imagePath = imagePath;
             this.position = position;
             this.dynamicType = dynamicType;
             this.clear = clear;
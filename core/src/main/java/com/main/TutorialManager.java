@@ -23,6 +23,8 @@ public class TutorialManager {
     private int currentPage;
     private boolean active;
     private Texture currentTexture;
+    // The shown page plus its two neighbours, so flipping either way is instant
+    private final TutorialPageCache pages = new TutorialPageCache(3);
     private boolean allowNextPage; // True if more than one page
     private Texture whiteTexture;
     private boolean temp = false;
@@ -105,10 +107,14 @@ public class TutorialManager {
     }
 
     private void loadCurrentImage() {
-        if (currentTexture != null) {
-            currentTexture.dispose(); // Free memory
+        currentTexture = pages.get(currentTutorialImages.get(currentPage));
+
+        // Decode the pages either side in the background; D wraps round to the first page
+        int size = currentTutorialImages.size();
+        if (size > 1) {
+            pages.prefetch(currentTutorialImages.get((currentPage + 1) % size));
+            pages.prefetch(currentTutorialImages.get((currentPage + size - 1) % size));
         }
-        currentTexture = new Texture(currentTutorialImages.get(currentPage));
     }
 
 
@@ -127,9 +133,6 @@ public class TutorialManager {
     public void stopTutorial() {
         if(!queue.isEmpty()){
             Gdx.app.log("TutorialManager", "Queue isn't empty");
-            if (currentTexture != null) {
-                currentTexture.dispose();
-            }
             startTutorial(queue.remove(0));
         }else{
             startDelay = true;
@@ -140,9 +143,8 @@ public class TutorialManager {
             }
             Tooltip.getInstance().setTutorialMode(false);
             resumeGame();
-            if (currentTexture != null) {
-                currentTexture.dispose();
-            }
+            pages.clear(); // Full-screen pages are large, so nothing is kept once the tutorial closes
+            currentTexture = null;
         }
 
     }
@@ -177,6 +179,8 @@ public class TutorialManager {
             startDelay = false;
         }
 
+        pages.update(); // also frees decodes left over from a tutorial that was closed
+
         if (!active) return;
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
@@ -190,7 +194,6 @@ public class TutorialManager {
             } else {
                 currentPage = 0;
                 loadCurrentImage();
-                loadCurrentImage();
             }
         }
     }
@@ -238,4 +241,9 @@ public class TutorialManager {
     public boolean isActive() {
         return active;
     }
+
+    // True while the tutorial needs frames even without input: the closing delay or a page upload
+    public boolean isAnimating() {
+        return startDelay || (active && pages.hasPending());
+    }
 }
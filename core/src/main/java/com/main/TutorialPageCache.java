@@ -0,0 +1,134 @@
+package com.main;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the last few tutorial pages as textures and decodes upcoming pages on a worker thread.
+ * The PNGs are full-screen and up to 1.4 MB, so decoding one on the render thread stalls a frame;
+ * here the render thread only uploads the decoded pixels, at most one page per frame.
+ */
+public class TutorialPageCache implements Disposable {
+    private final int capacity;
+    private final AsyncExecutor decoder = new AsyncExecutor(1, "tutorial-decode");
+    private final Map<String, AsyncResult<Pixmap>> pending = new HashMap<>();
+    // Decodes nobody wants any more; their pixmaps are freed once they finish, never waited on
+    private final List<AsyncResult<Pixmap>> abandoned = new ArrayList<>();
+    // Access ordered, so the first entry is always the least recently shown page
+    private final LinkedHashMap<String, Texture> pages = new LinkedHashMap<>(16, 0.75f, true);
+
+    public TutorialPageCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The page cache needs room for at least one page.");
+        }
+        this.capacity = capacity;
+    }
+
+    /** Returns the page's texture, waiting for its decode if it was prefetched but is not ready yet. */
+    public Texture get(String path) {
+        Texture texture = pages.get(path);
+        if (texture != null) {
+            return texture;
+        }
+        AsyncResult<Pixmap> result = pending.remove(path);
+        Pixmap pixmap = result != null ? result.get() : new Pixmap(Gdx.files.internal(path));
+        return upload(path, pixmap);
+    }
+
+    /** Starts decoding a page in the background unless it is already cached or on its way. */
+    public void prefetch(String path) {
+        // A cached neighbour is touched so it outlives pages that are further away
+        if (pages.get(path) != null || pending.containsKey(path)) {
+            return;
+        }
+        pending.put(path, decoder.submit(() -> new Pixmap(Gdx.files.internal(path))));
+    }
+
+    /**
+     * Frees abandoned decodes that have finished and uploads at most one finished prefetch; call
+     * once per frame, also while no tutorial is showing.
+     */
+    public void update() {
+        Iterator<AsyncResult<Pixmap>> finished = abandoned.iterator();
+        while (finished.hasNext()) {
+            AsyncResult<Pixmap> result = finished.next();
+            if (result.isDone()) {
+                finished.remove();
+                Pixmap pixmap = takeDecoded(result);
+                if (pixmap != null) {
+                    pixmap.dispose();
+                }
+            }
+        }
+
+        Iterator<Map.Entry<String, AsyncResult<Pixmap>>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, AsyncResult<Pixmap>> entry = iterator.next();
+            if (entry.getValue().isDone()) {
+                iterator.remove();
+                Pixmap pixmap = takeDecoded(entry.getValue());
+                if (pixmap != null) {
+                    upload(entry.getKey(), pixmap);
+                }
+                return;
+            }
+        }
+    }
+
+    // Only called once isDone(); a failed decode is logged, and the page is decoded again if shown
+    private Pixmap takeDecoded(AsyncResult<Pixmap> result) {
+        try {
+            return result.get();
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("TutorialPageCache", "Could not decode a tutorial page", e);
+            return null;
+        }
+    }
+
+    /** True while a prefetched page is still being decoded or waiting to be uploaded. */
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    private Texture upload(String path, Pixmap pixmap) {
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+
+        pages.put(path, texture);
+        if (pages.size() > capacity) {
+            Iterator<Texture> eldest = pages.values().iterator();
+            eldest.next().dispose();
+            eldest.remove();
+        }
+        return texture;
+    }
+
+    /** Frees every cached page; decodes still in flight are freed by {@link #update} once they finish. */
+    public void clear() {
+        abandoned.addAll(pending.values());
+        pending.clear();
+        for (Texture texture : pages.values()) {
+            texture.dispose();
+        }
+        pages.clear();
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        decoder.dispose(); // waits for the worker, so every abandoned decode is finished below
+        update();
+    }
+}
@@ -0,0 +1,109 @@
+package com.main;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Looks up the small UI images (dice faces, weather, board icons, tooltip keys) as regions of the
+ * atlas packed by the lwjgl3:packTextures Gradle task, so they share one texture and draw without
+ * rebinding. Images are asked for by their asset path, e.g. "ui/dice/dice_face_1.png". If the atlas
+ * has not been packed, or an image is missing from it, the image is loaded on its own instead.
+ *
+ * Regions are reference counted through the AssetRegistry: each acquire must be matched by a
+ * release, and the atlas (or loose texture) is unloaded once no region of it is held.
+ */
+public class UiAtlas {
+    public static final String ATLAS_PATH = "atlas/ui.atlas";
+    private static final String UI_FOLDER = "ui/";
+
+    private static UiAtlas instance;
+
+    private Boolean atlasPacked;
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+    private final Map<String, String> backingPaths = new HashMap<>(); // image path -> atlas or texture path
+    private final ObjectIntMap<String> references = new ObjectIntMap<>();
+
+    private UiAtlas() {}
+
+    public static UiAtlas getInstance() {
+        if (instance == null) {
+            synchronized (UiAtlas.class) {
+                if (instance == null) {
+                    instance = new UiAtlas();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /** Returns the region for an image under assets/ui; every holder of a path shares one region. */
+    public TextureRegion acquire(String path) {
+        AssetRegistry registry = AssetRegistry.getInstance();
+        TextureRegion region = regions.get(path);
+        if (region != null) {
+            registry.acquire(backingPaths.get(path), backingType(path));
+            references.getAndIncrement(path, 0, 1);
+            return region;
+        }
+
+        if (isAtlasPacked()) {
+            TextureAtlas atlas = registry.acquire(ATLAS_PATH, TextureAtlas.class);
+            region = atlas.findRegion(toRegionName(path));
+            if (region != null) {
+                backingPaths.put(path, ATLAS_PATH);
+            } else {
+                registry.release(ATLAS_PATH);
+            }
+        }
+        if (region == null) {
+            region = new TextureRegion(registry.acquire(path, Texture.class));
+            backingPaths.put(path, path);
+        }
+        regions.put(path, region);
+        references.put(path, 1);
+        return region;
+    }
+
+    /** Gives back a region from {@link #acquire}; the path must not be used after its last release. */
+    public void release(String path) {
+        int count = references.get(path, 0);
+        if (count <= 0) {
+            throw new IllegalArgumentException(path + " is not held by anyone.");
+        }
+        AssetRegistry.getInstance().release(backingPaths.get(path));
+        if (count == 1) {
+            references.remove(path, 0);
+            regions.remove(path);
+            backingPaths.remove(path);
+        } else {
+            references.put(path, count - 1);
+        }
+    }
+
+    private Class<?> backingType(String path) {
+        return ATLAS_PATH.equals(backingPaths.get(path)) ? TextureAtlas.class : Texture.class;
+    }
+
+    boolean isAtlasPacked() {
+        if (atlasPacked == null) {
+            atlasPacked = Gdx.files.internal(ATLAS_PATH).exists();
+            if (!atlasPacked) {
+                Gdx.app.log("UiAtlas", ATLAS_PATH + " not found, loading UI images individually");
+            }
+        }
+        return atlasPacked;
+    }
+
+    // The packer names regions by their path inside assets/ui, without the extension
+    static String toRegionName(String path) {
+        String name = path.startsWith(UI_FOLDER) ? path.substring(UI_FOLDER.length()) : path;
+        int extension = name.lastIndexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+}
@@ -0,0 +1,78 @@
+package com.main.simulation;
+
+import com.main.Task;
+
+import java.util.List;
+import java.util.Locale;
+
+/** Totals gathered over a batch of simulated games; batches from different threads are merged. */
+public class BalanceReport {
+    private final List<Task> catalog;
+
+    long games;
+    long wins;
+    long losses;
+    long unfinished;
+    long totalRounds;
+    long winningRounds;
+    long moneyBankruptcies;
+    long peopleBankruptcies;
+    final long[] taskSelected;
+    final long[] taskCompleted;
+
+    public BalanceReport(List<Task> catalog) {
+        this.catalog = catalog;
+        this.taskSelected = new long[catalog.size()];
+        this.taskCompleted = new long[catalog.size()];
+    }
+
+    public BalanceReport merge(BalanceReport other) {
+        games += other.games;
+        wins += other.wins;
+        losses += other.losses;
+        unfinished += other.unfinished;
+        totalRounds += other.totalRounds;
+        winningRounds += other.winningRounds;
+        moneyBankruptcies += other.moneyBankruptcies;
+        peopleBankruptcies += other.peopleBankruptcies;
+        for (int i = 0; i < taskSelected.length; i++) {
+            taskSelected[i] += other.taskSelected[i];
+            taskCompleted[i] += other.taskCompleted[i];
+        }
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Games played:        %d%n", games));
+        out.append(String.format(Locale.ROOT, "Win rate:            %.2f%%%n", 100.0 * getWinRate()));
+        out.append(String.format(Locale.ROOT, "Loss rate:           %.2f%%%n", percent(losses)));
+        out.append(String.format(Locale.ROOT, "Hit round limit:     %.2f%%%n", percent(unfinished)));
+        out.append(String.format(Locale.ROOT, "Avg rounds (all):    %.1f%n", games == 0 ? 0 : (double) totalRounds / games));
+        out.append(String.format(Locale.ROOT, "Avg rounds (wins):   %.1f%n", wins == 0 ? 0 : (double) winningRounds / wins));
+        out.append(String.format(Locale.ROOT, "Money bankruptcies:  %d (%.2f%% of games)%n", moneyBankruptcies, percent(moneyBankruptcies)));
+        out.append(String.format(Locale.ROOT, "People bankruptcies: %d (%.2f%% of games)%n", peopleBankruptcies, percent(peopleBankruptcies)));
+        out.append(String.format(Locale.ROOT, "%n%-45s %-12s %10s %10s%n", "Task", "Category", "Selected", "Completed"));
+        for (int i = 0; i < catalog.size(); i++) {
+            Task task = catalog.get(i);
+            if (task.isChanceSquare()) {
+                continue;
+            }
+            out.append(String.format(Locale.ROOT, "%-45s %-12s %9.2f%% %9.2f%%%n",
+                task.getName().trim(), task.getCategory(), percent(taskSelected[i]), percent(taskCompleted[i])));
+        }
+        return out.toString();
+    }
+
+    private double percent(long count) {
+        return games == 0 ? 0 : 100.0 * count / games;
+    }
+}
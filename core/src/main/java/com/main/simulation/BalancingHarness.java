@@ -0,0 +1,125 @@
+package com.main.simulation;
+
+import com.badlogic.gdx.graphics.Color;
+import com.main.Board;
+import com.main.GameEngine;
+import com.main.GameRandom;
+import com.main.GameState;
+import com.main.Player;
+import com.main.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays complete games between scripted players on a fork-join pool and totals the outcome per
+ * game and per task, so changes to tasks.json can be checked against thousands of matches.
+ * Game {@code i} always uses the same seed, so results do not depend on how work is split.
+ */
+public class BalancingHarness {
+    public static final int MAX_ROUNDS = 500;
+    private static final int BATCH_SIZE = 64;
+    private static final Color[] PLAYER_COLOURS = {Color.GREEN, Color.RED, Color.BLUE, Color.PINK};
+
+    private final List<Task> catalog;
+    private final int playerCount;
+    private final long seed;
+
+    public BalancingHarness(List<Task> catalog, int playerCount, long seed) {
+        if (playerCount < 1 || playerCount > PLAYER_COLOURS.length) {
+            throw new IllegalArgumentException("Player count must be between 1 and " + PLAYER_COLOURS.length);
+        }
+        this.catalog = catalog;
+        this.playerCount = playerCount;
+        this.seed = seed;
+
+        // Touch the shared colour table once before worker threads start building boards
+        GameState.getInstance();
+    }
+
+    public BalanceReport run(int games, ForkJoinPool pool) {
+        return pool.invoke(new GameBatch(0, games));
+    }
+
+    public void playGame(int index, BalanceReport report) {
+        GameRandom random = new GameRandom(seed + index * 0x9E3779B97F4A7C15L);
+
+        List<Task> tasks = new ArrayList<>(catalog.size());
+        for (Task task : catalog) {
+            tasks.add(task.copy());
+        }
+
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player("Bot " + (i + 1), PLAYER_COLOURS[i]));
+        }
+
+        Board board = new Board(new ArrayList<>(tasks), random.split());
+        GameEngine engine = new GameEngine(board, players, random.split());
+        ScriptedPlayer bot = new ScriptedPlayer(engine, random.split());
+
+        while (!engine.isGameWon() && !engine.isGameLost() && engine.getGlobalTurn() < MAX_ROUNDS) {
+            bot.playTurn();
+        }
+
+        report.games++;
+        report.totalRounds += engine.getGlobalTurn();
+        if (engine.isGameLost()) {
+            report.losses++;
+        } else if (engine.isGameWon()) {
+            report.wins++;
+            report.winningRounds += engine.getGlobalTurn();
+        } else {
+            report.unfinished++;
+        }
+
+        for (Player player : players) {
+            if (player.getRand().getAmount() <= 0) {
+                report.moneyBankruptcies++;
+            }
+            if (player.getRand2().getAmount() <= 0) {
+                report.peopleBankruptcies++;
+            }
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task.taskTaken()) {
+                report.taskSelected[i]++;
+            }
+            if (task.isCompleted()) {
+                report.taskCompleted[i]++;
+            }
+        }
+    }
+
+    private class GameBatch extends RecursiveTask<BalanceReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        GameBatch(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BalanceReport compute() {
+            if (to - from <= BATCH_SIZE) {
+                BalanceReport report = new BalanceReport(catalog);
+                for (int i = from; i < to; i++) {
+                    playGame(i, report);
+                }
+                return report;
+            }
+            int middle = (from + to) >>> 1;
+            GameBatch left = new GameBatch(from, middle);
+            left.fork();
+            BalanceReport right = new GameBatch(middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.main.simulation;
+
+import com.main.Board;
+import com.main.GameEngine;
+import com.main.GameRandom;
+import com.main.Node;
+import com.main.Player;
+import com.main.Task;
+
+import java.util.Arrays;
+
+/**
+ * Greedy bot used by the balancing harness. Each turn it rolls, walks towards the nearest node it
+ * can act on (or the Makers Centre when it is running low and a refill is waiting), then does
+ * whatever the S / C keys would do for a human on that node and ends its turn.
+ */
+public class ScriptedPlayer {
+    private static final double LOW_MONEY = 150000;
+    private static final double LOW_PEOPLE = 40;
+
+    private final GameEngine engine;
+    private final GameRandom random;
+    private final Board board;
+    private final int[] distance;
+    private final int[] queue;
+
+    public ScriptedPlayer(GameEngine engine, GameRandom random) {
+        this.engine = engine;
+        this.random = random;
+        this.board = engine.getBoard();
+        this.distance = new int[board.getNodeCount()];
+        this.queue = new int[board.getNodeCount()];
+    }
+
+    public void playTurn() {
+        Player player = engine.getCurrentPlayer();
+        engine.applyRoll(random.nextInt(1, 6));
+
+        computeDistances(player);
+        int position = engine.getCurrentNode().getIndex();
+        while (engine.hasMovesLeft()) {
+            int next = chooseStep(position);
+            if (next < 0 || !engine.moveTo(board.getNode(next))) {
+                break;
+            }
+            position = next;
+        }
+
+        act(player, engine.getCurrentNode());
+        engine.endTurn();
+    }
+
+    private void act(Player player, Node node) {
+        if (engine.canCollectMakersRefill()) {
+            engine.collectMakersRefill();
+        }
+
+        Task task = node.getTask();
+        if (task == null) {
+            return;
+        }
+        if (task.isChanceSquare()) {
+            engine.openChanceSquare(node);
+        } else if (!task.taskTaken()) {
+            if (engine.claimTask(player, task)) {
+                engine.selectTask(player, task);
+                // Stands in for confirming the StartObjectiveScreen
+                if (engine.isObjectiveReady(task.getCategory()) && engine.getObjectiveOwner(task.getCategory()) == player) {
+                    player.setObjectiveStarted(true);
+                }
+            }
+        } else if (engine.canStartTask(player, task)) {
+            engine.startTask(player, task);
+        }
+    }
+
+    // Players may walk a link in either direction, so options are the out-links then the in-links
+    private int chooseStep(int position) {
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int ties = 0;
+        int outDegree = board.getOutDegree(position);
+        int degree = outDegree + board.getInDegree(position);
+        for (int i = 0; i < degree; i++) {
+            int option = i < outDegree ? board.getOutLink(position, i) : board.getInLink(position, i - outDegree);
+            if (!engine.canMoveTo(board.getNode(option))) {
+                continue;
+            }
+            int d = distance[option];
+            if (d < bestDistance) {
+                best = option;
+                bestDistance = d;
+                ties = 1;
+            } else if (d == bestDistance && random.nextInt(++ties) == 0) {
+                best = option; // reservoir pick so equal options are chosen fairly
+            }
+        }
+        return best;
+    }
+
+    // Multi-source BFS outwards from every node the player wants to finish on
+    private void computeDistances(Player player) {
+        int head = 0;
+        int tail = 0;
+        boolean needsRefill = engine.isMakersRefillPending()
+            && (player.getRand().getAmount() < LOW_MONEY || player.getRand2().getAmount() < LOW_PEOPLE);
+
+        // Sub-nodes (indexed after the main board) cannot be walked onto, so they are neither goals nor waypoints
+        int walkable = board.getNodes().size();
+        Arrays.fill(distance, walkable, distance.length, Integer.MAX_VALUE);
+        for (int i = 0; i < walkable; i++) {
+            boolean goal = needsRefill ? i == 0 : isActionable(player, board.getNode(i));
+            distance[i] = goal ? 0 : Integer.MAX_VALUE;
+            if (goal) {
+                queue[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int current = queue[head++];
+            int outDegree = board.getOutDegree(current);
+            int degree = outDegree + board.getInDegree(current);
+            for (int i = 0; i < degree; i++) {
+                int next = i < outDegree ? board.getOutLink(current, i) : board.getInLink(current, i - outDegree);
+                if (next < walkable && distance[next] == Integer.MAX_VALUE) {
+                    distance[next] = distance[current] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    private boolean isActionable(Player player, Node node) {
+        Task task = node.getTask();
+        if (task == null) {
+            return false;
+        }
+        if (task.isChanceSquare()) {
+            return !task.hasBeenOpened();
+        }
+        if (!task.taskTaken()) {
+            return !player.hasActiveTask()
+                && !player.isObjectiveStarted()
+                && !engine.isObjectiveClaimedByOther(task.getCategory(), player)
+                && (player.getCurrentCategory() == null || player.getCurrentCategory().equals(task.getCategory()));
+        }
+        return engine.canStartTask(player, task);
+    }
+}
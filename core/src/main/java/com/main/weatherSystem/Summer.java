@@ -1,6 +1,6 @@
 package com.main.weatherSystem;
 
-import java.util.Random;
+import com.main.GameRandom;
 
 public class Summer {
 
@@ -8,8 +8,7 @@ public class Summer {
     double[] weatherProbabilities = {0.5, 0.25, 0.15, 0.08, 0.02}; //stores calculated probabilities given previous two arrays
 
     //generates a random weather based on the probabilities
-    public String generateWeather() {
-        Random rand = new Random();
+    public String generateWeather(GameRandom rand) {
         double randomValue = rand.nextDouble();
         double cumulativeProbability = 0.0;
         for (int i = 0; i < weatherProbabilities.length; i++) {
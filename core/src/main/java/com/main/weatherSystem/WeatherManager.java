@@ -1,13 +1,17 @@
 package com.main.weatherSystem;
 
-import java.util.Random;
+import com.main.GameRandom;
 
 public class WeatherManager {
     private String currentSeason;
-    private Random random;
+    private final GameRandom random;
+    private final Spring spring = new Spring();
+    private final Summer summer = new Summer();
+    private final Autumn autumn = new Autumn();
+    private final Winter winter = new Winter();
 
-    public WeatherManager() {
-        random = new Random();
+    public WeatherManager(GameRandom random) {
+        this.random = random;
     }
 
     public String getSeason(int globalTurn) {
@@ -21,13 +25,13 @@ public class WeatherManager {
         // Generate weather based on the current season
         switch (currentSeason) {
             case "Spring":
-                return new Spring().generateWeather();
+                return spring.generateWeather(random);
             case "Summer":
-                return new Summer().generateWeather();
+                return summer.generateWeather(random);
             case "Autumn":
-                return new Autumn().generateWeather();
+                return autumn.generateWeather(random);
             case "Winter":
-                return new Winter().generateWeather();
+                return winter.generateWeather(random);
             default:
                 return "Clear"; // Fallback
         }
@@ -1,6 +1,6 @@
 package com.main.weatherSystem;
 
-import java.util.Random;
+import com.main.GameRandom;
 
 public class Winter {
 
@@ -8,8 +8,7 @@ public class Winter {
     double[] weatherProbabilities = {0.15, 0.1, 0.3, 0.25, 0.19999999, 0.00000001}; //stores calculated probabilities given previous two arrays
 
     //generates a random weather based on the probabilities
-    public String generateWeather() {
-        Random rand = new Random();
+    public String generateWeather(GameRandom rand) {
         double randomValue = rand.nextDouble();
         double cumulativeProbability = 0.0;
         for (int i = 0; i < weatherProbabilities.length; i++) {
@@ -0,0 +1,69 @@
+package com.main.lwjgl3;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.main.ResourceLoader;
+import com.main.Task;
+import com.main.simulation.BalanceReport;
+import com.main.simulation.BalancingHarness;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the balancing harness from the command line with no window.
+ * Usage: --games N --players P --seed S --threads T (all optional).
+ */
+public class BalancingLauncher {
+    public static void main(String[] args) {
+        int games = 100000;
+        int players = 2;
+        long seed = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games":
+                    games = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--players":
+                    players = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[i + 1]);
+                    break;
+                default:
+                    System.err.println("Unknown option " + args[i]);
+                    return;
+            }
+        }
+
+        // The headless backend provides Gdx.files for DeserializeJsonData and Gdx.app for logging
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = 1;
+        HeadlessApplication application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        application.setLogLevel(Application.LOG_NONE);
+
+        List<Task> catalog = ResourceLoader.loadTask();
+        if (catalog == null) {
+            application.exit();
+            return;
+        }
+
+        System.out.println("Simulating " + games + " games of " + players + " players on " + threads + " threads (seed " + seed + ")");
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        BalanceReport report = new BalancingHarness(catalog, players, seed).run(games, pool);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        System.out.println(report.format());
+        System.out.printf("Finished in %.1fs (%.0f games/s)%n", seconds, report.getGames() / seconds);
+        application.exit();
+    }
+}